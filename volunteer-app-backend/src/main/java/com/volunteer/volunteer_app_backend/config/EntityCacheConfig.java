@@ -0,0 +1,100 @@
+package com.volunteer.volunteer_app_backend.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Second-level cache regions for the reference entities resolved on nearly every write
+ * ({@code User}, {@code Project}, {@code VolunteerGroup}). Region names match the {@code @Cache}
+ * annotations on the entities; Hibernate fails at startup if one is missing.
+ */
+@Configuration
+public class EntityCacheConfig {
+
+    private static final Map<String, Region> REGIONS = new LinkedHashMap<>();
+
+    static {
+        REGIONS.put("users", new Region(10_000, Duration.ofMinutes(10)));
+        REGIONS.put("projects", new Region(5_000, Duration.ofMinutes(10)));
+        REGIONS.put("groups", new Region(2_000, Duration.ofMinutes(10)));
+    }
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(Environment environment) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+
+        REGIONS.forEach((name, fallback) -> {
+            long maxSize = environment.getProperty("app.cache." + name + ".max-size", Long.class, fallback.maxSize);
+            Duration ttl = environment.getProperty("app.cache." + name + ".ttl", Duration.class, fallback.ttl);
+
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            configuration.setStatisticsEnabled(true);
+
+            if (cacheManager.getCache(name) == null) {
+                cacheManager.createCache(name, configuration);
+            }
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(CacheManager entityCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+    }
+
+    @Bean
+    public MeterBinder entityCacheMetrics(CacheManager entityCacheManager) {
+        return registry -> REGIONS.keySet().forEach(name -> {
+            Cache<Object, Object> cache = entityCacheManager.getCache(name);
+            JCacheMetrics.monitor(registry, cache);
+            Gauge.builder("cache.hit.ratio", registry, r -> hitRatio(r, name))
+                    .tag("cache", name)
+                    .register(registry);
+        });
+    }
+
+    private static double hitRatio(MeterRegistry registry, String name) {
+        double hits = gets(registry, name, "hit");
+        double total = hits + gets(registry, name, "miss");
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private static double gets(MeterRegistry registry, String name, String result) {
+        FunctionCounter counter = registry.find("cache.gets")
+                .tags("cache", name, "result", result)
+                .functionCounter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static class Region {
+        private final long maxSize;
+        private final Duration ttl;
+
+        private Region(long maxSize, Duration ttl) {
+            this.maxSize = maxSize;
+            this.ttl = ttl;
+        }
+    }
+}
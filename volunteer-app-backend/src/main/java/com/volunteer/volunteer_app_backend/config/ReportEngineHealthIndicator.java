@@ -0,0 +1,25 @@
+package com.volunteer.volunteer_app_backend.config;
+
+import com.volunteer.volunteer_app_backend.service.BirtReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ReportEngineHealthIndicator implements HealthIndicator {
+
+    private final BirtReportService birtReportService;
+
+    @Override
+    public Health health() {
+        BirtReportService.EngineState state = birtReportService.getState();
+        Health.Builder health = switch (state) {
+            case READY -> Health.up();
+            case FAILED -> Health.down();
+            default -> Health.unknown();
+        };
+        return health.withDetail("engine", state).build();
+    }
+}
@@ -1,11 +1,15 @@
 package com.volunteer.volunteer_app_backend.config;
 
 import com.volunteer.volunteer_app_backend.model.Report;
+import com.volunteer.volunteer_app_backend.model.ReportParameter;
 import com.volunteer.volunteer_app_backend.repository.ReportRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 @Component
 @RequiredArgsConstructor
 public class ReportInitializer implements CommandLineRunner {
@@ -14,12 +18,29 @@ public class ReportInitializer implements CommandLineRunner {
 
     @Override
     public void run(String... args) {
-        if (reportRepository.count() == 0) {
-            Report report = new Report();
-            report.setName("Занятость волонтёров");
-            report.setDescription("Отчет показывает количество задач, назначенных каждому волонтёру.");
-            report.setBirtTemplate("reports/volunteer-occupancy.rptdesign");
-            reportRepository.save(report);
+        createIfMissing(
+                "Занятость волонтёров",
+                "Отчет показывает количество задач, назначенных каждому волонтёру.",
+                "reports/volunteer-occupancy.rptdesign",
+                EnumSet.noneOf(ReportParameter.class)
+        );
+        createIfMissing(
+                "Активность по задачам",
+                "Отчет показывает количество созданных и завершенных задач по проектам и исполнителям за период.",
+                "reports/task-activity.rptdesign",
+                EnumSet.allOf(ReportParameter.class)
+        );
+    }
+
+    private void createIfMissing(String name, String description, String template, Set<ReportParameter> parameters) {
+        if (reportRepository.existsByBirtTemplate(template)) {
+            return;
         }
+        Report report = new Report();
+        report.setName(name);
+        report.setDescription(description);
+        report.setBirtTemplate(template);
+        report.setParameters(parameters);
+        reportRepository.save(report);
     }
-}
\ No newline at end of file
+}
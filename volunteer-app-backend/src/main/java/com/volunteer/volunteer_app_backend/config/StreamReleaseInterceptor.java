@@ -0,0 +1,37 @@
+package com.volunteer.volunteer_app_backend.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Runs the release hook of a streaming response whose async processing never started, e.g. because the return
+ * value handler failed. The dispatcher only calls {@code afterCompletion} on the first dispatch when no async
+ * processing was started; once it has, the async interceptors and the body itself release the resource.
+ */
+public class StreamReleaseInterceptor implements HandlerInterceptor {
+
+    private static final String ATTRIBUTE = StreamReleaseInterceptor.class.getName() + ".release";
+
+    /**
+     * The hook may run more than once (here and from the async path) and must be idempotent.
+     */
+    public static void register(NativeWebRequest request, Runnable release) {
+        request.setAttribute(ATTRIBUTE, release, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Object handler,
+            Exception ex
+    ) {
+        if (request.getAttribute(ATTRIBUTE) instanceof Runnable release) {
+            request.removeAttribute(ATTRIBUTE);
+            release.run();
+        }
+    }
+}
@@ -3,24 +3,35 @@ package com.volunteer.volunteer_app_backend.controller;
 import com.volunteer.volunteer_app_backend.model.User;
 import com.volunteer.volunteer_app_backend.repository.UserRepository;
 import com.volunteer.volunteer_app_backend.security.JwtUtil;
+import com.volunteer.volunteer_app_backend.service.PasswordHashingService;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 public class AuthController {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthController.class);
+
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    /**
+     * Continuations that touch the database or build tokens run here, not on the CPU-sized hashing pool that
+     * completes the hash futures.
+     */
+    private final AsyncTaskExecutor applicationTaskExecutor;
 
     @PostMapping("/login")
-    public Map<String, Object> login(@RequestBody Map<String, String> body) {
+    public CompletableFuture<Map<String, Object>> login(@RequestBody Map<String, String> body) {
 
         String email = body.get("email");
         String password = body.get("password");
@@ -38,24 +49,28 @@ public class AuthController {
                         "Invalid email or password"
                 ));
 
-        if (!passwordEncoder.matches(password, user.getPasswordHash())) {
-            throw new ResponseStatusException(
-                    HttpStatus.UNAUTHORIZED,
-                    "Invalid email or password"
-            );
-        }
-
-        String token = JwtUtil.generateToken(user.getId(), user.getRole());
-
-        return Map.of(
-                "token", token,
-                "userId", user.getId(),
-                "role", user.getRole()
-        );
+        return passwordHashingService.matches(password, user.getPasswordHash())
+                .thenApplyAsync(matches -> {
+                    if (!matches) {
+                        throw new ResponseStatusException(
+                                HttpStatus.UNAUTHORIZED,
+                                "Invalid email or password"
+                        );
+                    }
+
+                    upgradePasswordHash(user, password);
+                    String token = JwtUtil.generateToken(user.getId(), user.getRole());
+
+                    return Map.of(
+                            "token", token,
+                            "userId", user.getId(),
+                            "role", user.getRole()
+                    );
+                }, applicationTaskExecutor);
     }
 
     @PostMapping("/register")
-    public User register(@RequestBody User user) {
+    public CompletableFuture<User> register(@RequestBody User user) {
 
         if (user.getEmail() == null
                 || user.getPasswordHash() == null
@@ -76,11 +91,32 @@ public class AuthController {
             );
         }
 
-        user.setPasswordHash(
-                passwordEncoder.encode(user.getPasswordHash())
-        );
+        return passwordHashingService.encode(user.getPasswordHash())
+                .thenApplyAsync(passwordHash -> {
+                    user.setPasswordHash(passwordHash);
+                    user.setCreatedAt(LocalDateTime.now());
+                    return userRepository.save(user);
+                }, applicationTaskExecutor);
+    }
 
-        user.setCreatedAt(LocalDateTime.now());
-        return userRepository.save(user);
+    private void upgradePasswordHash(User user, String password) {
+        String previousHash = user.getPasswordHash();
+        if (!passwordHashingService.needsRehash(previousHash)) {
+            return;
+        }
+
+        try {
+            passwordHashingService.encode(password)
+                    .thenAcceptAsync(
+                            passwordHash -> userRepository.updatePasswordHash(user.getId(), previousHash, passwordHash),
+                            applicationTaskExecutor
+                    )
+                    .exceptionally(e -> {
+                        log.warn("Could not upgrade password hash for user {}", user.getId(), e);
+                        return null;
+                    });
+        } catch (ResponseStatusException e) {
+            log.debug("Password hash upgrade for user {} skipped, hashing pool is saturated", user.getId());
+        }
     }
 }
@@ -0,0 +1,26 @@
+package com.volunteer.volunteer_app_backend.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * Answers {@code If-None-Match} from the stamp alone and only builds the body when it has changed.
+     * A null etag means there is nothing to stamp, and the body supplier reports the error.
+     */
+    static <T> ResponseEntity<T> respond(WebRequest request, String etag, Supplier<T> body) {
+        if (etag != null && request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(body.get());
+    }
+}
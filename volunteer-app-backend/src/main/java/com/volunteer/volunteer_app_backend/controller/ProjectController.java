@@ -1,11 +1,17 @@
 package com.volunteer.volunteer_app_backend.controller;
 
+import com.volunteer.volunteer_app_backend.dto.ProjectDeletionResponse;
+import com.volunteer.volunteer_app_backend.dto.ProjectResponse;
 import com.volunteer.volunteer_app_backend.model.Project;
 import com.volunteer.volunteer_app_backend.model.User;
 import com.volunteer.volunteer_app_backend.service.ProjectService;
 import com.volunteer.volunteer_app_backend.service.ProjectParticipantService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,43 +24,56 @@ public class ProjectController {
     private final ProjectParticipantService participantService;
 
     @GetMapping
-    public List<Project> getAll() {
-        return projectService.getAll();
+    public ResponseEntity<List<ProjectResponse>> getAll(WebRequest request) {
+        return ConditionalResponses.respond(request, projectService.getAllEtag(), projectService::getAll);
     }
 
     @GetMapping("/by-organizer/{organizerId}")
-    public List<Project> getByOrganizer(@PathVariable Long organizerId) {
-        return projectService.getByOrganizerId(organizerId);
+    public ResponseEntity<List<ProjectResponse>> getByOrganizer(@PathVariable Long organizerId, WebRequest request) {
+        return ConditionalResponses.respond(request, projectService.getByOrganizerEtag(organizerId),
+                () -> projectService.getByOrganizerId(organizerId));
     }
 
     @GetMapping("/by-participant/{userId}")
-    public List<Project> getByParticipant(@PathVariable Long userId) {
-        return projectService.getByParticipantId(userId);
+    public ResponseEntity<List<ProjectResponse>> getByParticipant(@PathVariable Long userId, WebRequest request) {
+        return ConditionalResponses.respond(request, projectService.getByParticipantEtag(userId),
+                () -> projectService.getByParticipantId(userId));
     }
 
     @GetMapping("/by-non-participant/{userId}")
-    public List<Project> getByNonParticipant(@PathVariable Long userId) {
+    public List<ProjectResponse> getByNonParticipant(@PathVariable Long userId) {
         return projectService.getByNonParticipantId(userId);
     }
 
     @GetMapping("/{id}")
-    public Project getById(@PathVariable Long id) {
-        return projectService.getById(id);
+    public ResponseEntity<ProjectResponse> getById(@PathVariable Long id, WebRequest request) {
+        return ConditionalResponses.respond(request, projectService.getEtag(id), () -> projectService.getById(id));
     }
 
     @PostMapping
-    public Project create(@RequestBody Project project) {
+    public ProjectResponse create(@RequestBody Project project) {
         return projectService.create(project);
     }
 
     @PatchMapping("/{id}")
-    public Project update(@PathVariable Long id, @RequestBody Project updated) {
-        return projectService.update(id, updated);
+    public ProjectResponse update(@PathVariable Long id,
+                                  @RequestBody Project updated,
+                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return projectService.update(id, updated, ifMatch);
     }
 
     @DeleteMapping("/{id}")
-    public void delete(@PathVariable Long id) {
-        projectService.delete(id);
+    public ResponseEntity<ProjectDeletionResponse> delete(@PathVariable Long id) {
+        ProjectDeletionResponse response = projectService.delete(id);
+        HttpStatus status = response.getStatus() == ProjectDeletionResponse.Status.DELETED
+                ? HttpStatus.OK
+                : HttpStatus.ACCEPTED;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @GetMapping("/{id}/deletion")
+    public ProjectDeletionResponse getDeletionProgress(@PathVariable Long id) {
+        return projectService.getDeletionProgress(id);
     }
 
     @PostMapping("/{projectId}/participants/{userId}")
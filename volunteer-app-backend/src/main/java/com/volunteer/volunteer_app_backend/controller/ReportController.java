@@ -1,19 +1,44 @@
 package com.volunteer.volunteer_app_backend.controller;
 
+import com.volunteer.volunteer_app_backend.config.StreamReleaseInterceptor;
+import com.volunteer.volunteer_app_backend.dto.ReportJobResponse;
+import com.volunteer.volunteer_app_backend.dto.ReportParameters;
 import com.volunteer.volunteer_app_backend.model.Report;
+import com.volunteer.volunteer_app_backend.model.ReportFormat;
+import com.volunteer.volunteer_app_backend.model.VolunteerOccupancyRow;
 import com.volunteer.volunteer_app_backend.service.BirtReportService;
+import com.volunteer.volunteer_app_backend.service.ReportJobService;
 import com.volunteer.volunteer_app_backend.service.ReportService;
+import com.volunteer.volunteer_app_backend.service.ReportSnapshotService;
+import com.volunteer.volunteer_app_backend.service.VolunteerOccupancyService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @RestController
 @RequestMapping("/api/reports")
@@ -22,40 +47,209 @@ public class ReportController {
 
     private final ReportService reportService;
     private final BirtReportService birtReportService;
+    private final ReportJobService reportJobService;
+    private final ReportSnapshotService snapshotService;
+    private final VolunteerOccupancyService occupancyService;
 
     @GetMapping
     public List<Report> getAll() {
         return reportService.getAll();
     }
 
+    @GetMapping("/occupancy")
+    public List<VolunteerOccupancyRow> getOccupancy(@RequestParam(defaultValue = "json") String format) {
+        if (!"json".equalsIgnoreCase(format)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Неподдерживаемый формат: " + format);
+        }
+        return occupancyService.getRows();
+    }
+
+    /**
+     * Declared with the concrete body type: Spring only streams a {@link StreamingResponseBody} when the handler
+     * method's return type says so.
+     */
+    @GetMapping(value = "/occupancy", params = "format=csv")
+    public ResponseEntity<StreamingResponseBody> getOccupancyCsv() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv;charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=volunteer-occupancy.csv")
+                .body(occupancyService::writeCsv);
+    }
+
     @GetMapping("/{id}/render")
-    public ResponseEntity<byte[]> render(@PathVariable Long id) {
+    public ResponseEntity<StreamingResponseBody> render(
+            @PathVariable Long id,
+            ReportParameters parameters,
+            @RequestParam(defaultValue = "false") boolean fresh,
+            NativeWebRequest request
+    ) {
         Report report = reportService.getById(id);
-        byte[] reportHtml = birtReportService.renderReport(report.getBirtTemplate());
-        return ResponseEntity.ok()
-                .contentType(MediaType.TEXT_HTML)
-                .body(reportHtml);
+        return respond(report, ReportFormat.HTML, parameters, fresh, request, ResponseEntity.ok());
     }
 
     @GetMapping("/{id}/export")
-    public ResponseEntity<byte[]> export(@PathVariable Long id, @RequestParam String format) {
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable Long id,
+            @RequestParam String format,
+            ReportParameters parameters,
+            @RequestParam(defaultValue = "false") boolean fresh,
+            NativeWebRequest request
+    ) {
+        Report report = reportService.getById(id);
+        ReportFormat reportFormat = exportFormat(format);
+        return respond(
+                report,
+                reportFormat,
+                parameters,
+                fresh,
+                request,
+                ResponseEntity.ok().header(HttpHeaders.CONTENT_DISPOSITION, attachment(id, reportFormat))
+        );
+    }
+
+    @PostMapping("/{id}/jobs")
+    public ResponseEntity<ReportJobResponse> submitJob(
+            @PathVariable Long id,
+            @RequestParam String format,
+            ReportParameters parameters
+    ) {
         Report report = reportService.getById(id);
-        byte[] reportBytes = birtReportService.renderReport(report.getBirtTemplate(), format);
-        MediaType mediaType = getExportMediaType(format);
-        String extension = format.equals("pdf") ? "pdf" : "xls";
+        ReportFormat reportFormat = ReportFormat.fromValue(format);
+        ReportJobResponse job = reportJobService.submit(
+                report,
+                reportFormat,
+                reportService.resolveParameters(report, parameters)
+        );
+        return ResponseEntity.accepted()
+                .header(HttpHeaders.LOCATION, "/api/reports/jobs/" + job.getId())
+                .body(job);
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ReportJobResponse getJob(@PathVariable String jobId) {
+        return reportJobService.getJob(jobId);
+    }
+
+    @GetMapping("/jobs/{jobId}/result")
+    public ResponseEntity<Resource> getJobResult(@PathVariable String jobId) {
+        ReportJobService.ReportJob job = reportJobService.getResult(jobId);
         return ResponseEntity.ok()
-                .contentType(mediaType)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=report-" + id + "." + extension)
-                .body(reportBytes);
+                .contentType(MediaType.parseMediaType(job.getFormat().getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachment(job.getReportId(), job.getFormat()))
+                .body(new FileSystemResource(job.getResult()));
+    }
+
+    /**
+     * Snapshots and live renders are both returned as a {@link StreamingResponseBody}: Spring only streams one
+     * when the handler method's declared return type is {@code ResponseEntity<StreamingResponseBody>}.
+     */
+    private ResponseEntity<StreamingResponseBody> respond(
+            Report report,
+            ReportFormat format,
+            ReportParameters parameters,
+            boolean fresh,
+            NativeWebRequest request,
+            ResponseEntity.BodyBuilder response
+    ) {
+        Map<String, Object> values = reportService.resolveParameters(report, parameters);
+        response.contentType(MediaType.parseMediaType(format.getContentType()));
+
+        if (!fresh && !parameters.hasValues()) {
+            ReportSnapshotService.ReportSnapshot snapshot = snapshotService.find(report.getId(), format);
+            if (snapshot != null) {
+                if (request.checkNotModified(snapshot.getEtag(), snapshot.getLastModified().toEpochMilli())) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+                }
+                InputStream snapshotStream = openSnapshot(snapshot);
+                if (snapshotStream != null) {
+                    return response
+                            .cacheControl(CacheControl.noCache())
+                            .eTag(snapshot.getEtag())
+                            .lastModified(snapshot.getLastModified())
+                            .body(stream(request, () -> closeQuietly(snapshotStream), snapshotStream::transferTo));
+                }
+            }
+        }
+
+        BirtReportService.RenderPermit permit = birtReportService.acquire(format.getValue());
+        try {
+            return response.body(stream(
+                    request,
+                    permit::close,
+                    outputStream -> permit.render(report.getBirtTemplate(), values, fresh, outputStream)
+            ));
+        } catch (RuntimeException e) {
+            permit.close();
+            throw e;
+        }
     }
 
-    private MediaType getExportMediaType(String format) {
-        if ("pdf".equals(format)) {
-            return MediaType.APPLICATION_PDF;
+    /**
+     * Opened before the response is returned, so a snapshot replaced in the meantime is still read in full; null
+     * when it has already been removed, in which case the report is rendered live.
+     */
+    private InputStream openSnapshot(ReportSnapshotService.ReportSnapshot snapshot) {
+        try {
+            return Files.newInputStream(snapshot.getPath());
+        } catch (IOException e) {
+            return null;
         }
-        if ("xls".equals(format)) {
-            return MediaType.parseMediaType("application/vnd.ms-excel");
+    }
+
+    private void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException ignored) {
+            // nothing left to release
+        }
+    }
+
+    /**
+     * The resource is released exactly once by whichever runs first: the body, the end of async processing when
+     * the body never ran (client gone, async timeout or error before execution), or
+     * {@link StreamReleaseInterceptor} when async processing never started.
+     */
+    private StreamingResponseBody stream(NativeWebRequest request, Runnable release, StreamWriter writer) {
+        AtomicBoolean claimed = new AtomicBoolean();
+        Runnable releaseOnce = () -> {
+            if (claimed.compareAndSet(false, true)) {
+                release.run();
+            }
+        };
+        StreamReleaseInterceptor.register(request, releaseOnce);
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(claimed, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                releaseOnce.run();
+            }
+        });
+
+        return outputStream -> {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                writer.write(outputStream);
+            } finally {
+                release.run();
+            }
+        };
+    }
+
+    private ReportFormat exportFormat(String format) {
+        ReportFormat reportFormat = ReportFormat.fromValue(format);
+        if (reportFormat == ReportFormat.HTML) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Неподдерживаемый формат: " + format);
         }
-        throw new IllegalArgumentException("Неподдерживаемый формат: " + format);
+        return reportFormat;
+    }
+
+    private String attachment(Long reportId, ReportFormat format) {
+        return "attachment; filename=report-" + reportId + "." + format.getValue();
+    }
+
+    @FunctionalInterface
+    private interface StreamWriter {
+        void write(OutputStream outputStream) throws IOException;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,34 @@
+package com.volunteer.volunteer_app_backend.controller;
+
+import com.volunteer.volunteer_app_backend.dto.CursorPageResponse;
+import com.volunteer.volunteer_app_backend.dto.SearchHitResponse;
+import com.volunteer.volunteer_app_backend.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping
+    public CursorPageResponse<SearchHitResponse> search(
+            Authentication authentication,
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        if (authentication == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication required");
+        }
+        return searchService.search(Long.valueOf(authentication.getName()), q, cursor, limit);
+    }
+}
@@ -1,9 +1,19 @@
 package com.volunteer.volunteer_app_backend.controller;
 
+import com.volunteer.volunteer_app_backend.dto.CursorPageResponse;
+import com.volunteer.volunteer_app_backend.dto.TaskBatchResponse;
+import com.volunteer.volunteer_app_backend.dto.TaskChangesResponse;
+import com.volunteer.volunteer_app_backend.dto.TaskFilter;
+import com.volunteer.volunteer_app_backend.dto.TaskResponse;
 import com.volunteer.volunteer_app_backend.model.Task;
+import com.volunteer.volunteer_app_backend.service.TaskChangeService;
+import com.volunteer.volunteer_app_backend.service.TaskImportService;
 import com.volunteer.volunteer_app_backend.service.TaskService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -13,30 +23,64 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
+    private final TaskChangeService taskChangeService;
 
     @GetMapping
-    public List<Task> getAll() {
-        return taskService.getAll();
+    public CursorPageResponse<TaskResponse> getAll(
+            TaskFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return taskService.getAll(filter, cursor, limit);
     }
 
     @GetMapping("/by-project/{projectId}")
-    public List<Task> getByProject(@PathVariable Long projectId) {
-        return taskService.getByProjectId(projectId);
+    public ResponseEntity<CursorPageResponse<TaskResponse>> getByProject(
+            @PathVariable Long projectId,
+            TaskFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request
+    ) {
+        return ConditionalResponses.respond(request, taskService.getProjectTasksEtag(projectId),
+                () -> taskService.getByProjectId(projectId, filter, cursor, limit));
+    }
+
+    @GetMapping("/changes")
+    public TaskChangesResponse getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return taskChangeService.getChanges(since, projectId, limit);
     }
 
     @GetMapping("/{id}")
-    public Task getById(@PathVariable Long id) {
-        return taskService.getById(id);
+    public ResponseEntity<TaskResponse> getById(@PathVariable Long id, WebRequest request) {
+        return ConditionalResponses.respond(request, taskService.getEtag(id), () -> taskService.getById(id));
     }
 
     @PostMapping
-    public Task create(@RequestBody Task task) {
+    public TaskResponse create(@RequestBody Task task) {
         return taskService.create(task);
     }
 
+    @PostMapping("/batch")
+    public TaskBatchResponse createBatch(@RequestBody List<Task> tasks) {
+        return taskImportService.importTasks(tasks);
+    }
+
+    @PostMapping(value = "/batch", consumes = "text/csv")
+    public TaskBatchResponse importCsv(@RequestBody String csv) {
+        return taskImportService.importCsv(csv);
+    }
+
     @PatchMapping("/{id}")
-    public Task update(@PathVariable Long id, @RequestBody Task task) {
-        return taskService.update(id, task);
+    public TaskResponse update(@PathVariable Long id,
+                               @RequestBody Task task,
+                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return taskService.update(id, task, ifMatch);
     }
 
     @DeleteMapping("/{id}")
@@ -45,12 +89,22 @@ public class TaskController {
     }
 
     @GetMapping("/by-organizer/{organizerId}")
-    public List<Task> getByOrganizer(@PathVariable Long organizerId) {
-        return taskService.getByOrganizerId(organizerId);
+    public CursorPageResponse<TaskResponse> getByOrganizer(
+            @PathVariable Long organizerId,
+            TaskFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return taskService.getByOrganizerId(organizerId, filter, cursor, limit);
     }
 
     @GetMapping("/by-participant/{userId}")
-    public List<Task> getByParticipant(@PathVariable Long userId) {
-        return taskService.getByParticipantId(userId);
+    public CursorPageResponse<TaskResponse> getByParticipant(
+            @PathVariable Long userId,
+            TaskFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return taskService.getByParticipantId(userId, filter, cursor, limit);
     }
 }
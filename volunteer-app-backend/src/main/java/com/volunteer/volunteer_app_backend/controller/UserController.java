@@ -3,7 +3,10 @@ package com.volunteer.volunteer_app_backend.controller;
 import com.volunteer.volunteer_app_backend.model.User;
 import com.volunteer.volunteer_app_backend.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -15,13 +18,13 @@ public class UserController {
     private final UserService userService;
 
     @GetMapping
-    public List<User> getAll() {
-        return userService.getAll();
+    public ResponseEntity<List<User>> getAll(WebRequest request) {
+        return ConditionalResponses.respond(request, userService.getAllEtag(), userService::getAll);
     }
 
     @GetMapping("/{id}")
-    public User getById(@PathVariable Long id) {
-        return userService.getById(id);
+    public ResponseEntity<User> getById(@PathVariable Long id, WebRequest request) {
+        return ConditionalResponses.respond(request, userService.getEtag(id), () -> userService.getById(id));
     }
 
     @PostMapping
@@ -35,7 +38,9 @@ public class UserController {
     }
 
     @PatchMapping("/{id}")
-    public User update(@PathVariable Long id, @RequestBody User user) {
-        return userService.update(id, user);
+    public User update(@PathVariable Long id,
+                       @RequestBody User user,
+                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return userService.update(id, user, ifMatch);
     }
 }
@@ -1,11 +1,15 @@
 package com.volunteer.volunteer_app_backend.controller;
 
+import com.volunteer.volunteer_app_backend.dto.VolunteerGroupResponse;
 import com.volunteer.volunteer_app_backend.model.User;
 import com.volunteer.volunteer_app_backend.model.VolunteerGroup;
 import com.volunteer.volunteer_app_backend.service.GroupMemberService;
 import com.volunteer.volunteer_app_backend.service.VolunteerGroupService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,24 +22,25 @@ public class VolunteerGroupController {
     private final GroupMemberService groupMemberService;
 
     @GetMapping
-    public List<VolunteerGroup> getAll() {
-        return groupService.getAll();
+    public ResponseEntity<List<VolunteerGroupResponse>> getAll(WebRequest request) {
+        return ConditionalResponses.respond(request, groupService.getAllEtag(), groupService::getAll);
     }
 
     @GetMapping("/{id}")
-    public VolunteerGroup getById(@PathVariable Long id) {
-        return groupService.getById(id);
+    public ResponseEntity<VolunteerGroupResponse> getById(@PathVariable Long id, WebRequest request) {
+        return ConditionalResponses.respond(request, groupService.getEtag(id), () -> groupService.getById(id));
     }
 
     @PostMapping
-    public VolunteerGroup create(@RequestBody VolunteerGroup group) {
+    public VolunteerGroupResponse create(@RequestBody VolunteerGroup group) {
         return groupService.create(group);
     }
 
     @PatchMapping("/{id}")
-    public VolunteerGroup update(@PathVariable Long id,
-                                 @RequestBody VolunteerGroup group) {
-        return groupService.update(id, group);
+    public VolunteerGroupResponse update(@PathVariable Long id,
+                                 @RequestBody VolunteerGroup group,
+                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return groupService.update(id, group, ifMatch);
     }
 
     @DeleteMapping("/{id}")
@@ -61,7 +66,9 @@ public class VolunteerGroupController {
     }
 
     @GetMapping("/by-organizer/{organizerId}")
-    public List<VolunteerGroup> getByOrganizer(@PathVariable Long organizerId) {
-        return groupService.getByOrganizerId(organizerId);
+    public ResponseEntity<List<VolunteerGroupResponse>> getByOrganizer(@PathVariable Long organizerId,
+                                                                       WebRequest request) {
+        return ConditionalResponses.respond(request, groupService.getByOrganizerEtag(organizerId),
+                () -> groupService.getByOrganizerId(organizerId));
     }
 }
@@ -1,12 +1,17 @@
 package com.volunteer.volunteer_app_backend.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Getter;
 import lombok.Setter;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.time.Instant;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
 @Table(name = "projects")
 @Getter
 @Setter
@@ -32,4 +37,12 @@ public class Project {
 
     @Column(name = "created_at")
     private Instant createdAt;
+
+    @Column(name = "deleting", nullable = false, columnDefinition = "boolean default false")
+    private boolean deleting;
+
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
@@ -5,6 +5,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 @Entity
 @Table(name = "reports")
 @Getter
@@ -24,4 +27,10 @@ public class Report {
 
     @Column(columnDefinition = "TEXT")
     private String description;
-}
\ No newline at end of file
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "report_parameters", joinColumns = @JoinColumn(name = "report_id"))
+    @Enumerated(EnumType.STRING)
+    @Column(name = "parameter", nullable = false)
+    private Set<ReportParameter> parameters = EnumSet.noneOf(ReportParameter.class);
+}
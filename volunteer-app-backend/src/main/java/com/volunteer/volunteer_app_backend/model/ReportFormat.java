@@ -0,0 +1,26 @@
+package com.volunteer.volunteer_app_backend.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+@Getter
+@RequiredArgsConstructor
+public enum ReportFormat {
+    HTML("html", "text/html;charset=UTF-8"),
+    PDF("pdf", "application/pdf"),
+    XLS("xls", "application/vnd.ms-excel");
+
+    private final String value;
+    private final String contentType;
+
+    public static ReportFormat fromValue(String value) {
+        for (ReportFormat format : values()) {
+            if (format.value.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Неподдерживаемый формат: " + value);
+    }
+}
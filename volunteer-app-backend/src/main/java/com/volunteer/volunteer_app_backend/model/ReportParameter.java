@@ -0,0 +1,18 @@
+package com.volunteer.volunteer_app_backend.model;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ReportParameter {
+    DATE_FROM("dateFrom"),
+    DATE_TO("dateTo"),
+    PROJECT_ID("projectId"),
+    ORGANIZER_ID("organizerId"),
+    GROUP_ID("groupId");
+
+    @JsonValue
+    private final String value;
+}
@@ -0,0 +1,46 @@
+package com.volunteer.volunteer_app_backend.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Entity
+@Table(
+        name = "task_activity_daily",
+        indexes = {
+                @Index(name = "idx_task_activity_daily_date_project", columnList = "activity_date, project_id"),
+                @Index(name = "idx_task_activity_daily_refreshed_at", columnList = "refreshed_at")
+        }
+)
+public class TaskActivityDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "activity_date", nullable = false)
+    private LocalDate activityDate;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "volunteer_id")
+    private Long volunteerId;
+
+    @Column(name = "group_id")
+    private Long groupId;
+
+    @Column(name = "created_tasks", nullable = false)
+    private int createdTasks;
+
+    @Column(name = "completed_tasks", nullable = false)
+    private int completedTasks;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+}
@@ -0,0 +1,30 @@
+package com.volunteer.volunteer_app_backend.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "volunteer_occupancy")
+public class VolunteerOccupancy {
+
+    @Id
+    @Column(name = "volunteer_id")
+    private Long volunteerId;
+
+    @Column(name = "total_tasks", nullable = false)
+    private int totalTasks;
+
+    @Column(name = "active_tasks", nullable = false)
+    private int activeTasks;
+
+    @Column(name = "completed_tasks", nullable = false)
+    private int completedTasks;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+}
@@ -1,6 +1,7 @@
 package com.volunteer.volunteer_app_backend.repository;
 
 import com.volunteer.volunteer_app_backend.model.GroupMember;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -12,5 +13,6 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>
 
     Optional<GroupMember> findByGroup_IdAndUser_Id(Long groupId, Long userId);
 
+    @EntityGraph(attributePaths = "user")
     List<GroupMember> findAllByGroup_Id(Long groupId);
 }
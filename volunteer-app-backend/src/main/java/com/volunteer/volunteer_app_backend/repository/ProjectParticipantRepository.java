@@ -1,7 +1,11 @@
 package com.volunteer.volunteer_app_backend.repository;
 
 import com.volunteer.volunteer_app_backend.model.ProjectParticipant;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,7 +17,10 @@ public interface ProjectParticipantRepository
 
     Optional<ProjectParticipant> findByProject_IdAndUser_Id(Long projectId, Long userId);
 
+    @EntityGraph(attributePaths = "user")
     List<ProjectParticipant> findAllByProject_Id(Long projectId);
 
-    void deleteByProject_Id(Long projectId);
+    @Modifying
+    @Query("delete from ProjectParticipant pp where pp.project.id = :projectId")
+    int deleteAllByProjectId(@Param("projectId") Long projectId);
 }
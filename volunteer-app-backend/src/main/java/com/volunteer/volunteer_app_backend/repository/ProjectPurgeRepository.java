@@ -0,0 +1,51 @@
+package com.volunteer.volunteer_app_backend.repository;
+
+import com.volunteer.volunteer_app_backend.model.ProjectPurge;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface ProjectPurgeRepository extends JpaRepository<ProjectPurge, Long> {
+
+    /**
+     * Registers a purge unless one is already running; returns 1 when this call created or restarted it.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_purges"))
+    @Query(nativeQuery = true, value = """
+            insert into project_purges (project_id, total_tasks, status, started_at)
+            values (:projectId, :totalTasks, 'DELETING', localtimestamp)
+            on conflict (project_id) do update
+            set total_tasks = excluded.total_tasks,
+                status = excluded.status,
+                started_at = excluded.started_at,
+                finished_at = null
+            where project_purges.status <> 'DELETING'
+            """)
+    int start(@Param("projectId") Long projectId, @Param("totalTasks") long totalTasks);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update ProjectPurge p set p.status = :status, p.finishedAt = :finishedAt
+            where p.projectId = :projectId
+            """)
+    int finish(
+            @Param("projectId") Long projectId,
+            @Param("status") String status,
+            @Param("finishedAt") LocalDateTime finishedAt
+    );
+
+    @Transactional
+    @Modifying
+    @Query("delete from ProjectPurge p where p.finishedAt < :before")
+    int deleteFinishedBefore(@Param("before") LocalDateTime before);
+}
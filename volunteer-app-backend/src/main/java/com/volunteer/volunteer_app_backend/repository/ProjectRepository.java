@@ -2,18 +2,98 @@ package com.volunteer.volunteer_app_backend.repository;
 
 import com.volunteer.volunteer_app_backend.model.Project;
 import com.volunteer.volunteer_app_backend.model.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
+    @Override
+    @EntityGraph(attributePaths = "organizer")
+    List<Project> findAll();
+
+    @EntityGraph(attributePaths = "organizer")
+    Optional<Project> findWithOrganizerById(Long id);
+
+    @EntityGraph(attributePaths = "organizer")
     List<Project> findByOrganizerId(Long organizerId);
 
     boolean existsByTitleIgnoreCase(String title);
 
+    @Override
+    default boolean existsById(Long id) {
+        return findById(id).isPresent();
+    }
+
+    @Query("""
+            select count(p) as count,
+                   coalesce(sum(p.version), 0) as versionSum,
+                   coalesce(max(p.id), 0) as maxId,
+                   coalesce(sum(p.id * (p.version + 1)), 0) as rowHash,
+                   coalesce(sum(o.version), 0) as relatedVersionSum
+            from Project p
+            left join p.organizer o
+            where p.id = :id
+            """)
+    VersionStamp findVersionStampById(@Param("id") Long id);
+
+    @Query("""
+            select count(p) as count,
+                   coalesce(sum(p.version), 0) as versionSum,
+                   coalesce(max(p.id), 0) as maxId,
+                   coalesce(sum(p.id * (p.version + 1)), 0) as rowHash,
+                   coalesce(sum(o.version), 0) as relatedVersionSum
+            from Project p
+            left join p.organizer o
+            """)
+    VersionStamp findVersionStamp();
+
+    @Query("""
+            select count(p) as count,
+                   coalesce(sum(p.version), 0) as versionSum,
+                   coalesce(max(p.id), 0) as maxId,
+                   coalesce(sum(p.id * (p.version + 1)), 0) as rowHash,
+                   coalesce(sum(o.version), 0) as relatedVersionSum
+            from Project p
+            left join p.organizer o
+            where o.id = :organizerId
+            """)
+    VersionStamp findVersionStampByOrganizerId(@Param("organizerId") Long organizerId);
+
+    @Query("""
+            select count(p) as count,
+                   coalesce(sum(p.version), 0) as versionSum,
+                   coalesce(max(pp.id), 0) as maxId,
+                   coalesce(sum(pp.id * (p.version + 1)), 0) as rowHash,
+                   coalesce(sum(o.version), 0) as relatedVersionSum
+            from ProjectParticipant pp
+            join pp.project p
+            left join p.organizer o
+            where pp.user.id = :userId
+            """)
+    VersionStamp findVersionStampByParticipantId(@Param("userId") Long userId);
+
+    @Query("select p.id from Project p where p.deleting = true")
+    List<Long> findDeletingIds();
+
+    @Transactional
+    @Modifying
+    @Query("update Project p set p.deleting = true, p.version = p.version + 1 where p.id = :id and p.deleting = false")
+    int markDeleting(@Param("id") Long id);
+
+    @Query("select p.deleting from Project p where p.id = :id")
+    Optional<Boolean> findDeletingById(@Param("id") Long id);
+
+    @Modifying
+    @Query("delete from Project p where p.id = :id")
+    int deleteProjectById(@Param("id") Long id);
+
     @Query("""
         select distinct u
         from Project p
@@ -23,6 +103,7 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     """)
     List<User> findAllParticipantsByOrganizerId(@Param("organizerId") Long organizerId);
 
+    @EntityGraph(attributePaths = "organizer")
     @Query("""
         select distinct p
         from Project p
@@ -31,6 +112,7 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     """)
     List<Project> findByParticipantId(@Param("userId") Long userId);
 
+    @EntityGraph(attributePaths = "organizer")
     @Query("""
         select p
         from Project p
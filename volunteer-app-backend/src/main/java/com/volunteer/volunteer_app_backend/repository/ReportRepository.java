@@ -2,6 +2,19 @@ package com.volunteer.volunteer_app_backend.repository;
 
 import com.volunteer.volunteer_app_backend.model.Report;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
 
 public interface ReportRepository extends JpaRepository<Report, Long> {
-}
\ No newline at end of file
+
+    boolean existsByBirtTemplate(String birtTemplate);
+
+    @Query(nativeQuery = true, value = """
+            select greatest(
+                (select max(refreshed_at) from volunteer_occupancy),
+                (select max(refreshed_at) from task_activity_daily)
+            )
+            """)
+    LocalDateTime findDataVersion();
+}
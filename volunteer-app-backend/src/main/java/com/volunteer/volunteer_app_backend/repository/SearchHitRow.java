@@ -0,0 +1,18 @@
+package com.volunteer.volunteer_app_backend.repository;
+
+public interface SearchHitRow {
+
+    String getType();
+
+    Long getTaskId();
+
+    Long getCommentId();
+
+    Long getProjectId();
+
+    String getTitle();
+
+    String getSnippet();
+
+    Double getRank();
+}
@@ -0,0 +1,72 @@
+package com.volunteer.volunteer_app_backend.repository;
+
+import com.volunteer.volunteer_app_backend.model.Task;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface SearchRepository extends Repository<Task, Long> {
+
+    /**
+     * Matches and ranks against the stored {@code search_vector} columns; the TEXT columns are only read for the
+     * snippets of the returned page.
+     */
+    @Query(nativeQuery = true, value = """
+            select h.type as "type",
+                   h.task_id as "taskId",
+                   h.comment_id as "commentId",
+                   t.project_id as "projectId",
+                   t.title as "title",
+                   ts_headline('russian',
+                               case when h.type = 'TASK'
+                                    then coalesce(t.title, '') || ' ' || coalesce(t.description, '')
+                                    else c.text end,
+                               websearch_to_tsquery('russian', :q),
+                               'MaxFragments=2, MaxWords=25, MinWords=8, StartSel=' || chr(2) || ', StopSel=' || chr(3))
+                           as "snippet",
+                   h.rank as "rank"
+            from (
+                select *
+                from (
+                    select 'TASK' as type,
+                           t.id as task_id,
+                           cast(null as bigint) as comment_id,
+                           cast(ts_rank(t.search_vector, query) as double precision) as rank
+                    from tasks t, websearch_to_tsquery('russian', :q) query
+                    where t.search_vector @@ query
+                      and t.project_id in (
+                          select pp.project_id from project_participants pp where pp.user_id = :userId
+                          union
+                          select p.id from projects p where p.organizer_id = :userId
+                      )
+                    union all
+                    select 'COMMENT' as type,
+                           c.task_id,
+                           c.id as comment_id,
+                           cast(ts_rank(c.search_vector, query) as double precision) as rank
+                    from task_comments c
+                    join tasks t on t.id = c.task_id,
+                         websearch_to_tsquery('russian', :q) query
+                    where c.search_vector @@ query
+                      and t.project_id in (
+                          select pp.project_id from project_participants pp where pp.user_id = :userId
+                          union
+                          select p.id from projects p where p.organizer_id = :userId
+                      )
+                ) matches
+                order by rank desc, task_id desc, comment_id desc nulls first
+                limit :limit offset :offset
+            ) h
+            join tasks t on t.id = h.task_id
+            left join task_comments c on c.id = h.comment_id
+            order by h.rank desc, h.task_id desc, h.comment_id desc nulls first
+            """)
+    List<SearchHitRow> search(
+            @Param("q") String query,
+            @Param("userId") Long userId,
+            @Param("limit") int limit,
+            @Param("offset") int offset
+    );
+}
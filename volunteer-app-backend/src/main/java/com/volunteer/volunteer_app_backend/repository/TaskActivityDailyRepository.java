@@ -0,0 +1,84 @@
+package com.volunteer.volunteer_app_backend.repository;
+
+import com.volunteer.volunteer_app_backend.model.TaskActivityDaily;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface TaskActivityDailyRepository extends JpaRepository<TaskActivityDaily, Long> {
+
+    @Query("select max(a.refreshedAt) from TaskActivityDaily a")
+    LocalDateTime findLastRefreshedAt();
+
+    @Query(nativeQuery = true, value = "select pg_try_advisory_xact_lock(hashtext('task_activity_daily'))")
+    boolean tryLock();
+
+    @Modifying
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_activity_daily"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_activity_touched_days")
+    })
+    @Query(nativeQuery = true, value = """
+            with consumed as (
+                delete from task_activity_touched_days returning activity_date
+            ), touched as (
+                select cast(t.created_at as date) as day from tasks t where t.updated_at > :since
+                union
+                select cast(t.updated_at as date) from tasks t where t.updated_at > :since
+                union
+                select c.activity_date from consumed c
+            ), cleared as (
+                delete from task_activity_daily a where a.activity_date in (select day from touched)
+            )
+            insert into task_activity_daily (activity_date, project_id, volunteer_id, group_id,
+                                             created_tasks, completed_tasks, refreshed_at)
+            select e.day, e.project_id, e.volunteer_id, e.group_id, sum(e.created), sum(e.completed), :refreshedAt
+            from (
+                select d.day, t.project_id, t.assignee_user_id as volunteer_id, t.assignee_group_id as group_id,
+                       1 as created, 0 as completed
+                from touched d
+                join tasks t on t.created_at >= d.day and t.created_at < d.day + 1
+                union all
+                select d.day, t.project_id, t.assignee_user_id, t.assignee_group_id, 0, 1
+                from touched d
+                join tasks t on t.updated_at >= d.day and t.updated_at < d.day + 1
+                where t.status = 'DONE'
+            ) e
+            group by e.day, e.project_id, e.volunteer_id, e.group_id
+            """)
+    int refreshTouchedSince(@Param("since") LocalDateTime since, @Param("refreshedAt") LocalDateTime refreshedAt);
+
+    @Modifying
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_activity_daily"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_activity_touched_days")
+    })
+    @Query(nativeQuery = true, value = """
+            with cleared as (
+                delete from task_activity_daily
+            ), consumed as (
+                delete from task_activity_touched_days
+            )
+            insert into task_activity_daily (activity_date, project_id, volunteer_id, group_id,
+                                             created_tasks, completed_tasks, refreshed_at)
+            select e.day, e.project_id, e.volunteer_id, e.group_id, sum(e.created), sum(e.completed), :refreshedAt
+            from (
+                select cast(t.created_at as date) as day, t.project_id, t.assignee_user_id as volunteer_id,
+                       t.assignee_group_id as group_id, 1 as created, 0 as completed
+                from tasks t
+                where t.created_at is not null
+                union all
+                select cast(t.updated_at as date), t.project_id, t.assignee_user_id, t.assignee_group_id, 0, 1
+                from tasks t
+                where t.status = 'DONE' and t.updated_at is not null
+            ) e
+            group by e.day, e.project_id, e.volunteer_id, e.group_id
+            """)
+    int rebuild(@Param("refreshedAt") LocalDateTime refreshedAt);
+}
@@ -1,14 +1,34 @@
 package com.volunteer.volunteer_app_backend.repository;
 
 import com.volunteer.volunteer_app_backend.model.TaskComment;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface TaskCommentRepository extends JpaRepository<TaskComment, Long> {
+    @EntityGraph(attributePaths = "author")
     List<TaskComment> findByTaskIdOrderByCreatedAtDesc(Long taskId);
 
+    @EntityGraph(attributePaths = "author")
     java.util.Optional<TaskComment> findByIdAndTaskId(Long id, Long taskId);
 
-    void deleteByTaskId(Long taskId);
+    @Modifying
+    @Query("delete from TaskComment c where c.task.id = :taskId")
+    int deleteAllByTaskId(@Param("taskId") Long taskId);
+
+    @Modifying
+    @Query("delete from TaskComment c where c.task.id in :taskIds")
+    int deleteAllByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    @Modifying
+    @Query("""
+            delete from TaskComment c
+            where c.task.id in (select t.id from Task t where t.project.id = :projectId)
+            """)
+    int deleteAllByProjectId(@Param("projectId") Long projectId);
 }
\ No newline at end of file
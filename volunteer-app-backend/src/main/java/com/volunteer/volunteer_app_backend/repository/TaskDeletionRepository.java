@@ -0,0 +1,82 @@
+package com.volunteer.volunteer_app_backend.repository;
+
+import com.volunteer.volunteer_app_backend.model.TaskDeletion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface TaskDeletionRepository extends JpaRepository<TaskDeletion, Long> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_deletions"))
+    @Query(nativeQuery = true, value = """
+            insert into task_deletions (task_id, project_id, deleted_at)
+            select t.id, t.project_id, cast(clock_timestamp() as timestamp) from tasks t where t.id = :taskId
+            """)
+    int recordTask(@Param("taskId") Long taskId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_deletions"))
+    @Query(nativeQuery = true, value = """
+            insert into task_deletions (task_id, project_id, deleted_at)
+            select t.id, t.project_id, cast(clock_timestamp() as timestamp) from tasks t where t.id in (:taskIds)
+            """)
+    int recordTasks(@Param("taskIds") Collection<Long> taskIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_deletions"))
+    @Query(nativeQuery = true, value = """
+            insert into task_deletions (task_id, project_id, deleted_at)
+            select t.id, t.project_id, cast(clock_timestamp() as timestamp) from tasks t where t.project_id = :projectId
+            """)
+    int recordProject(@Param("projectId") Long projectId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_deletions"))
+    @Query(nativeQuery = true, value = """
+            insert into task_deletions (task_id, project_id, deleted_at)
+            values (:taskId, :projectId, cast(clock_timestamp() as timestamp))
+            """)
+    int recordMove(@Param("taskId") Long taskId, @Param("projectId") Long previousProjectId);
+
+    @Query("""
+            select d from TaskDeletion d
+            where d.id > :afterId
+              and d.id < :beforeId
+              and (:projectId is null or d.projectId = :projectId)
+              and not exists (
+                  select t.id from Task t
+                  where t.id = d.taskId
+                    and (:projectId is null or t.project.id = :projectId)
+              )
+            order by d.id
+            """)
+    List<TaskDeletion> findSince(
+            @Param("afterId") long afterId,
+            @Param("beforeId") long beforeId,
+            @Param("projectId") Long projectId,
+            Pageable pageable
+    );
+
+    @Query("select min(d.id) from TaskDeletion d where d.id > :afterId and d.deletedAt > :cutoff")
+    Long findFirstUnsettledId(@Param("afterId") long afterId, @Param("cutoff") LocalDateTime cutoff);
+
+    @Query("select min(d.deletedAt) from TaskDeletion d where d.id > :afterId")
+    LocalDateTime findEarliestDeletedAtAfter(@Param("afterId") long afterId);
+
+    @Query("select coalesce(max(d.id), 0) from TaskDeletion d")
+    long findLastId();
+
+    @Modifying
+    @Query("delete from TaskDeletion d where d.deletedAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
@@ -1,26 +1,139 @@
 package com.volunteer.volunteer_app_backend.repository;
 
 import com.volunteer.volunteer_app_backend.model.Task;
+import com.volunteer.volunteer_app_backend.model.TaskPriority;
+import com.volunteer.volunteer_app_backend.model.TaskStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
-    List<Task> findByProjectId(Long projectId);
+    long countByProject_Id(Long projectId);
 
-    List<Task> findByProjectOrganizerId(Long organizerId);
+    @Query("select t.assigneeUser.id from Task t where t.id = :id")
+    Optional<Long> findAssigneeUserIdById(@Param("id") Long id);
 
-    void deleteByProject_Id(Long projectId);
+    @Query("select distinct t.assigneeUser.id from Task t where t.project.id = :projectId and t.assigneeUser is not null")
+    List<Long> findAssigneeUserIdsByProjectId(@Param("projectId") Long projectId);
 
+    @Query("select distinct t.assigneeUser.id from Task t where t.id in :ids and t.assigneeUser is not null")
+    List<Long> findAssigneeUserIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select t.id from Task t where t.project.id = :projectId order by t.id")
+    List<Long> findIdsByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from Task t where t.id = :id")
+    int deleteTaskById(@Param("id") Long id);
+
+    @Modifying
+    @Query("delete from Task t where t.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from Task t where t.project.id = :projectId")
+    int deleteAllByProjectId(@Param("projectId") Long projectId);
+
+    @EntityGraph(attributePaths = {"project", "assigneeUser", "assigneeGroup"})
+    Optional<Task> findWithAssociationsById(Long id);
+
+    @Query("select t.updatedAt from Task t where t.id = :id")
+    LocalDateTime findUpdatedAtById(@Param("id") Long id);
+
+    @Query(nativeQuery = true, value = "select cast(clock_timestamp() as timestamp)")
+    LocalDateTime findDatabaseTime();
+
+    @Query("""
+            select count(t) as count,
+                   coalesce(sum(t.version), 0) as versionSum,
+                   coalesce(max(t.id), 0) as maxId,
+                   coalesce(sum(t.id * (t.version + 1)), 0) as rowHash,
+                   coalesce(sum(p.version), 0) + coalesce(sum(u.version), 0) + coalesce(sum(g.version), 0)
+                           as relatedVersionSum
+            from Task t
+            join t.project p
+            left join t.assigneeUser u
+            left join t.assigneeGroup g
+            where t.id = :id
+            """)
+    VersionStamp findVersionStampById(@Param("id") Long id);
+
+    @Query("""
+            select count(t) as count,
+                   coalesce(sum(t.version), 0) as versionSum,
+                   coalesce(max(t.id), 0) as maxId,
+                   coalesce(sum(t.id * (t.version + 1)), 0) as rowHash,
+                   coalesce(sum(p.version), 0) + coalesce(sum(u.version), 0) + coalesce(sum(g.version), 0)
+                           as relatedVersionSum
+            from Task t
+            join t.project p
+            left join t.assigneeUser u
+            left join t.assigneeGroup g
+            where p.id = :projectId
+            """)
+    VersionStamp findVersionStampByProjectId(@Param("projectId") Long projectId);
+
+    @EntityGraph(attributePaths = {"project", "assigneeUser", "assigneeGroup"})
+    @Query("""
+            select t
+            from Task t
+            where (:projectId is null or t.project.id = :projectId)
+              and t.updatedAt <= :cutoff
+              and (:afterUpdatedAt is null
+                    or t.updatedAt > :afterUpdatedAt
+                    or (t.updatedAt = :afterUpdatedAt and t.id > :afterId))
+            order by t.updatedAt, t.id
+            """)
+    List<Task> findChangedSince(
+            @Param("projectId") Long projectId,
+            @Param("afterUpdatedAt") LocalDateTime afterUpdatedAt,
+            @Param("afterId") Long afterId,
+            @Param("cutoff") LocalDateTime cutoff,
+            Pageable pageable
+    );
+
+    @EntityGraph(attributePaths = {"project", "assigneeUser", "assigneeGroup"})
     @Query("""
-            select distinct t
+            select t
             from Task t
-            join ProjectParticipant pp on pp.project = t.project
-            where pp.user.id = :userId
+            where (:status is null or t.status = :status)
+              and (:priority is null or t.priority = :priority)
+              and (:taskType is null or t.taskType = :taskType)
+              and (:projectId is null or t.project.id = :projectId)
+              and (:organizerId is null or t.project.organizer.id = :organizerId)
+              and (:assigneeUserId is null or t.assigneeUser.id = :assigneeUserId)
+              and (:assigneeGroupId is null or t.assigneeGroup.id = :assigneeGroupId)
+              and (:participantId is null or exists (
+                    select 1
+                    from ProjectParticipant pp
+                    where pp.project = t.project and pp.user.id = :participantId
+              ))
+              and (:afterUpdatedAt is null
+                    or t.updatedAt < :afterUpdatedAt
+                    or (t.updatedAt = :afterUpdatedAt and t.id < :afterId))
+            order by t.updatedAt desc, t.id desc
             """)
-    List<Task> findByProjectParticipantId(@Param("userId") Long userId);
+    List<Task> findPage(
+            @Param("status") TaskStatus status,
+            @Param("priority") TaskPriority priority,
+            @Param("taskType") String taskType,
+            @Param("projectId") Long projectId,
+            @Param("organizerId") Long organizerId,
+            @Param("assigneeUserId") Long assigneeUserId,
+            @Param("assigneeGroupId") Long assigneeGroupId,
+            @Param("participantId") Long participantId,
+            @Param("afterUpdatedAt") LocalDateTime afterUpdatedAt,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
 }
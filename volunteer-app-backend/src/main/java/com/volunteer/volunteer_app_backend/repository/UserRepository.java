@@ -2,11 +2,55 @@ package com.volunteer.volunteer_app_backend.repository;
 
 import com.volunteer.volunteer_app_backend.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // Served from the second-level cache instead of a count query; a hit also primes the persistence context.
+    @Override
+    default boolean existsById(Long id) {
+        return findById(id).isPresent();
+    }
+
+    @Query("""
+            select count(u) as count,
+                   coalesce(sum(u.version), 0) as versionSum,
+                   coalesce(max(u.id), 0) as maxId,
+                   coalesce(sum(u.id * (u.version + 1)), 0) as rowHash,
+                   0L as relatedVersionSum
+            from User u
+            where u.id = :id
+            """)
+    VersionStamp findVersionStampById(@Param("id") Long id);
+
+    @Query("""
+            select count(u) as count,
+                   coalesce(sum(u.version), 0) as versionSum,
+                   coalesce(max(u.id), 0) as maxId,
+                   coalesce(sum(u.id * (u.version + 1)), 0) as rowHash,
+                   0L as relatedVersionSum
+            from User u
+            """)
+    VersionStamp findVersionStamp();
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update User u set u.passwordHash = :passwordHash, u.version = u.version + 1
+            where u.id = :id and u.passwordHash = :previousHash
+            """)
+    int updatePasswordHash(
+            @Param("id") Long id,
+            @Param("previousHash") String previousHash,
+            @Param("passwordHash") String passwordHash
+    );
 }
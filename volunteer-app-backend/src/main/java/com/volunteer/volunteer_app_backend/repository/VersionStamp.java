@@ -0,0 +1,44 @@
+package com.volunteer.volunteer_app_backend.repository;
+
+/**
+ * Aggregate of the rows behind a response: how many there are, the sum of their versions, the highest id
+ * (or membership id), the sum of id * (version + 1) and the sum of the versions of the entities embedded in the
+ * response. Versions only grow and every insert takes a new id, so edits, inserts and the versions of embedded
+ * entities move the stamp; the id-weighted sum also moves it when one row is swapped for another with
+ * offsetting versions, which count, version sum and highest id alone cannot see. It is a checksum, so distinct
+ * row sets can still collide, but only through an exact arithmetic coincidence rather than an ordinary edit.
+ */
+public interface VersionStamp {
+
+    long getCount();
+
+    long getVersionSum();
+
+    long getMaxId();
+
+    long getRowHash();
+
+    long getRelatedVersionSum();
+
+    default String toEtag() {
+        return "\"" + getCount() + "-" + getVersionSum() + "-" + getMaxId() + "-" + getRowHash()
+                + "-" + getRelatedVersionSum() + "\"";
+    }
+
+    /**
+     * Strong {@code If-Match} comparison; weak tags never match.
+     */
+    default boolean matches(String ifMatch) {
+        if (getCount() == 0) {
+            return false;
+        }
+        String etag = toEtag();
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,12 +1,64 @@
 package com.volunteer.volunteer_app_backend.repository;
 
 import com.volunteer.volunteer_app_backend.model.VolunteerGroup;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
+import java.util.Optional;
 
 public interface VolunteerGroupRepository extends JpaRepository<VolunteerGroup, Long> {
 
     boolean existsByName(String name);
 
+    @Override
+    default boolean existsById(Long id) {
+        return findById(id).isPresent();
+    }
+
+    @Override
+    @EntityGraph(attributePaths = "organizer")
+    List<VolunteerGroup> findAll();
+
+    @EntityGraph(attributePaths = "organizer")
+    Optional<VolunteerGroup> findWithOrganizerById(Long id);
+
+    @EntityGraph(attributePaths = "organizer")
     List<VolunteerGroup> findByOrganizerId(Long organizerId);
+
+    @Query("""
+            select count(g) as count,
+                   coalesce(sum(g.version), 0) as versionSum,
+                   coalesce(max(g.id), 0) as maxId,
+                   coalesce(sum(g.id * (g.version + 1)), 0) as rowHash,
+                   coalesce(sum(o.version), 0) as relatedVersionSum
+            from VolunteerGroup g
+            join g.organizer o
+            where g.id = :id
+            """)
+    VersionStamp findVersionStampById(@Param("id") Long id);
+
+    @Query("""
+            select count(g) as count,
+                   coalesce(sum(g.version), 0) as versionSum,
+                   coalesce(max(g.id), 0) as maxId,
+                   coalesce(sum(g.id * (g.version + 1)), 0) as rowHash,
+                   coalesce(sum(o.version), 0) as relatedVersionSum
+            from VolunteerGroup g
+            join g.organizer o
+            """)
+    VersionStamp findVersionStamp();
+
+    @Query("""
+            select count(g) as count,
+                   coalesce(sum(g.version), 0) as versionSum,
+                   coalesce(max(g.id), 0) as maxId,
+                   coalesce(sum(g.id * (g.version + 1)), 0) as rowHash,
+                   coalesce(sum(o.version), 0) as relatedVersionSum
+            from VolunteerGroup g
+            join g.organizer o
+            where o.id = :organizerId
+            """)
+    VersionStamp findVersionStampByOrganizerId(@Param("organizerId") Long organizerId);
 }
@@ -0,0 +1,89 @@
+package com.volunteer.volunteer_app_backend.repository;
+
+import com.volunteer.volunteer_app_backend.model.VolunteerOccupancy;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface VolunteerOccupancyRepository extends JpaRepository<VolunteerOccupancy, Long> {
+
+    @Query(nativeQuery = true, value = """
+            select u.id as "volunteerId",
+                   concat_ws(' ', u.surname, u.name, u.patronymic) as "fullName",
+                   u.email as "email",
+                   coalesce(o.total_tasks, 0) as "totalTasks",
+                   coalesce(o.active_tasks, 0) as "activeTasks",
+                   coalesce(o.completed_tasks, 0) as "completedTasks"
+            from users u
+            left join volunteer_occupancy o on o.volunteer_id = u.id
+            where u.role = 'VOLUNTEER'
+            order by "fullName", u.id
+            """)
+    List<VolunteerOccupancyView> findVolunteerRows();
+
+    /**
+     * Takes the per-volunteer refresh locks, in id order, until the end of the caller's transaction. It has to run
+     * as its own statement before {@link #refresh}: under read committed the refresh then counts with a snapshot
+     * taken after any concurrent writer for the same volunteer has committed, instead of overwriting that
+     * writer's count with one that misses its row.
+     */
+    @Query(nativeQuery = true, value = """
+            select count(*)
+            from (
+                select pg_advisory_xact_lock(hashtext('volunteer_occupancy'), cast(v.id % 2147483647 as int))
+                from (select distinct u.id from users u where u.id in (:volunteerIds) order by u.id) v
+            ) locked
+            """)
+    long lockVolunteers(@Param("volunteerIds") Collection<Long> volunteerIds);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "volunteer_occupancy"))
+    @Query(nativeQuery = true, value = """
+            insert into volunteer_occupancy (volunteer_id, total_tasks, active_tasks, completed_tasks, refreshed_at)
+            select u.id,
+                   count(t.id),
+                   count(t.id) filter (where t.status = 'IN_PROGRESS'),
+                   count(t.id) filter (where t.status = 'DONE'),
+                   now()
+            from users u
+            left join tasks t on t.assignee_user_id = u.id
+            where u.id in (:volunteerIds)
+            group by u.id
+            on conflict (volunteer_id) do update
+            set total_tasks = excluded.total_tasks,
+                active_tasks = excluded.active_tasks,
+                completed_tasks = excluded.completed_tasks,
+                refreshed_at = excluded.refreshed_at
+            """)
+    int refresh(@Param("volunteerIds") Collection<Long> volunteerIds);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "volunteer_occupancy"))
+    @Query(nativeQuery = true, value = """
+            insert into volunteer_occupancy (volunteer_id, total_tasks, active_tasks, completed_tasks, refreshed_at)
+            select u.id,
+                   count(t.id),
+                   count(t.id) filter (where t.status = 'IN_PROGRESS'),
+                   count(t.id) filter (where t.status = 'DONE'),
+                   now()
+            from users u
+            left join tasks t on t.assignee_user_id = u.id
+            group by u.id
+            on conflict (volunteer_id) do update
+            set total_tasks = excluded.total_tasks,
+                active_tasks = excluded.active_tasks,
+                completed_tasks = excluded.completed_tasks,
+                refreshed_at = excluded.refreshed_at
+            """)
+    int rebuild();
+}
@@ -0,0 +1,16 @@
+package com.volunteer.volunteer_app_backend.repository;
+
+public interface VolunteerOccupancyView {
+
+    Long getVolunteerId();
+
+    String getFullName();
+
+    String getEmail();
+
+    Integer getTotalTasks();
+
+    Integer getActiveTasks();
+
+    Integer getCompletedTasks();
+}
@@ -0,0 +1,67 @@
+package com.volunteer.volunteer_app_backend.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class AdaptiveConcurrencyLimit {
+
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double LONG_RTT_WEIGHT = 1.0 / 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+    private volatile double limit;
+    private double longRtt;
+
+    AdaptiveConcurrencyLimit(String name, int initialLimit, int minLimit, int maxLimit, MeterRegistry meterRegistry) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+        this.rejected = Counter.builder("concurrency.rejected").tag("limiter", name).register(meterRegistry);
+        Gauge.builder("concurrency.limit", this, current -> current.limit).tag("limiter", name).register(meterRegistry);
+        Gauge.builder("concurrency.in-flight", inFlight, AtomicInteger::get).tag("limiter", name).register(meterRegistry);
+    }
+
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void release(long rttNanos) {
+        int inFlightAtRelease = inFlight.getAndDecrement();
+        update(rttNanos, inFlightAtRelease);
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtRelease) {
+        double rtt = Math.max(1, rttNanos);
+        longRtt = longRtt == 0 ? rtt : longRtt + (rtt - longRtt) * LONG_RTT_WEIGHT;
+
+        if (longRtt / rtt > 2) {
+            longRtt *= 0.95;
+        }
+        if (inFlightAtRelease < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRtt / rtt));
+        double queueSize = Math.sqrt(limit);
+        double target = limit * gradient + queueSize;
+        double next = limit * (1 - SMOOTHING) + target * SMOOTHING;
+
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+}
@@ -0,0 +1,120 @@
+package com.volunteer.volunteer_app_backend.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final AdaptiveConcurrencyLimit reportsLimit;
+    private final AdaptiveConcurrencyLimit crudLimit;
+
+    public ConcurrencyLimitFilter(Environment environment, MeterRegistry meterRegistry) {
+        this.enabled = environment.getProperty("app.concurrency.enabled", Boolean.class, true);
+        this.reportsLimit = createLimit("reports", 4, 1, 32, environment, meterRegistry);
+        this.crudLimit = createLimit("crud", 20, 4, 200, environment, meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        AdaptiveConcurrencyLimit limit = request.getRequestURI().startsWith("/api/reports")
+                ? reportsLimit
+                : crudLimit;
+
+        if (!limit.tryAcquire()) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("Server is overloaded, retry later");
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                limit.release(System.nanoTime() - startedAt);
+            }
+        };
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingAsyncListener(release));
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    private static class ReleasingAsyncListener implements AsyncListener {
+        private final Runnable release;
+
+        private ReleasingAsyncListener(Runnable release) {
+            this.release = release;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    private AdaptiveConcurrencyLimit createLimit(
+            String name,
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            Environment environment,
+            MeterRegistry meterRegistry
+    ) {
+        String prefix = "app.concurrency." + name + ".";
+        return new AdaptiveConcurrencyLimit(
+                name,
+                environment.getProperty(prefix + "initial-limit", Integer.class, initialLimit),
+                environment.getProperty(prefix + "min-limit", Integer.class, minLimit),
+                environment.getProperty(prefix + "max-limit", Integer.class, maxLimit),
+                meterRegistry
+        );
+    }
+}
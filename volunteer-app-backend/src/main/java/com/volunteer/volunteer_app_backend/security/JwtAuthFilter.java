@@ -1,11 +1,12 @@
 package com.volunteer.volunteer_app_backend.security;
 
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -13,10 +14,15 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 
 @Component
+@RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
+    private final JwtTokenVerifier tokenVerifier;
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
@@ -35,20 +41,18 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             String token = header.substring(7);
 
             try {
-                Claims claims = JwtUtil.validate(token);
-                String userId = claims.getSubject();
+                JwtTokenVerifier.VerifiedToken verified = tokenVerifier.verify(token);
 
                 UsernamePasswordAuthenticationToken auth =
                         new UsernamePasswordAuthenticationToken(
-                                userId,
+                                verified.getSubject(),
                                 null,
-                                Collections.emptyList()
+                                verified.getRole() == null
+                                        ? Collections.emptyList()
+                                        : List.of(new SimpleGrantedAuthority("ROLE_" + verified.getRole()))
                         );
 
-                auth.setDetails(
-                        new WebAuthenticationDetailsSource()
-                                .buildDetails(request)
-                );
+                auth.setDetails(detailsSource.buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(auth);
 
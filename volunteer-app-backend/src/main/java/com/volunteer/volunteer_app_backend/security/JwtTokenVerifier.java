@@ -0,0 +1,92 @@
+package com.volunteer.volunteer_app_backend.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class JwtTokenVerifier {
+
+    private final int maxSize;
+    private final Map<String, VerifiedToken> verified = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public JwtTokenVerifier(
+            MeterRegistry meterRegistry,
+            @Value("${app.security.token-cache.max-size:10000}") int maxSize
+    ) {
+        this.maxSize = maxSize;
+        this.hits = Counter.builder("security.jwt.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("security.jwt.cache").tag("result", "miss").register(meterRegistry);
+        meterRegistry.gaugeMapSize("security.jwt.cache.size", Tags.empty(), verified);
+    }
+
+    public VerifiedToken verify(String token) {
+        long now = System.currentTimeMillis();
+        String key = hash(token);
+        VerifiedToken cached = verified.get(key);
+
+        if (cached != null) {
+            if (cached.expiresAt > now) {
+                hits.increment();
+                return cached;
+            }
+            verified.remove(key, cached);
+        }
+
+        misses.increment();
+        Claims claims = JwtUtil.validate(token);
+        if (claims.getExpiration() == null) {
+            throw new JwtException("Token has no expiration");
+        }
+
+        VerifiedToken result = new VerifiedToken(
+                claims.getSubject(),
+                claims.get("role", String.class),
+                claims.getExpiration().getTime()
+        );
+        if (verified.size() >= maxSize) {
+            verified.values().removeIf(entry -> entry.expiresAt <= now);
+        }
+        if (verified.size() < maxSize) {
+            verified.put(key, result);
+        }
+        return result;
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static class VerifiedToken {
+        @Getter
+        private final String subject;
+        @Getter
+        private final String role;
+        private final long expiresAt;
+
+        private VerifiedToken(String subject, String role, long expiresAt) {
+            this.subject = subject;
+            this.role = role;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.volunteer.volunteer_app_backend.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -17,6 +18,10 @@ public class JwtUtil {
 
     private static final Key KEY = Keys.hmacShaKeyFor(SECRET.getBytes());
 
+    private static final JwtParser PARSER = Jwts.parserBuilder()
+            .setSigningKey(KEY)
+            .build();
+
     public static String generateToken(Long userId, String role) {
         return Jwts.builder()
                 .setSubject(String.valueOf(userId))
@@ -28,10 +33,6 @@ public class JwtUtil {
     }
 
     public static Claims validate(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(KEY)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return PARSER.parseClaimsJws(token).getBody();
     }
 }
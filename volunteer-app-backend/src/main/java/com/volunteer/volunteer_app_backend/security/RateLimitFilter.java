@@ -0,0 +1,80 @@
+package com.volunteer.volunteer_app_backend.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    @Value("${app.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        RateLimiter.Decision decision = rateLimiter.tryConsume(group(request.getRequestURI()), client(request));
+
+        response.setHeader("RateLimit-Limit", String.valueOf(decision.getLimit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.getRemaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(decision.getResetSeconds()));
+
+        if (!decision.isAllowed()) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.getRetryAfterSeconds()));
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("Too many requests");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String group(String path) {
+        if (path.startsWith("/api/auth/")) {
+            return "auth";
+        }
+        if (path.startsWith("/api/reports") && !path.startsWith("/api/reports/jobs/")) {
+            return "reports";
+        }
+        if (path.startsWith("/api/search")) {
+            return "search";
+        }
+        return "api";
+    }
+
+    /**
+     * Anonymous clients are keyed by remote address, which relies on {@code server.forward-headers-strategy}
+     * resolving it from the forwarded headers; otherwise everyone behind the load balancer shares one bucket.
+     */
+    private String client(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && authentication.getPrincipal() instanceof String userId) {
+            return "user:" + userId;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,119 @@
+package com.volunteer.volunteer_app_backend.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+public class RateLimiter {
+
+    private static final Map<String, Limit> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        DEFAULTS.put("auth", new Limit(10, 10.0 / 60));
+        DEFAULTS.put("reports", new Limit(10, 10.0 / 60));
+        DEFAULTS.put("search", new Limit(30, 1));
+        DEFAULTS.put("api", new Limit(120, 20));
+    }
+
+    private final Map<String, Limit> limits = new LinkedHashMap<>();
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final long idleTimeoutNanos;
+
+    public RateLimiter(
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${app.rate-limit.idle-timeout:PT10M}") Duration idleTimeout
+    ) {
+        DEFAULTS.forEach((group, fallback) -> limits.put(group, new Limit(
+                environment.getProperty("app.rate-limit." + group + ".capacity", Integer.class, fallback.capacity),
+                environment.getProperty("app.rate-limit." + group + ".refill-per-second", Double.class, fallback.refillPerSecond)
+        )));
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        meterRegistry.gaugeMapSize("rate-limit.buckets", Tags.empty(), buckets);
+    }
+
+    public Decision tryConsume(String group, String client) {
+        Limit limit = limits.get(group);
+        Bucket bucket = buckets.computeIfAbsent(group + ":" + client, key -> new Bucket(limit));
+        return bucket.tryConsume(limit, System.nanoTime());
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.cleanup-interval:PT1M}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> now - bucket.state.get().updatedAt > idleTimeoutNanos);
+    }
+
+    @Getter
+    public static class Decision {
+        private final boolean allowed;
+        private final int limit;
+        private final int remaining;
+        private final long resetSeconds;
+        private final long retryAfterSeconds;
+
+        private Decision(boolean allowed, int limit, int remaining, long resetSeconds, long retryAfterSeconds) {
+            this.allowed = allowed;
+            this.limit = limit;
+            this.remaining = remaining;
+            this.resetSeconds = resetSeconds;
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+    }
+
+    private static class Limit {
+        private final int capacity;
+        private final double refillPerSecond;
+
+        private Limit(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+
+    private static class Bucket {
+        private final AtomicReference<State> state;
+
+        private Bucket(Limit limit) {
+            this.state = new AtomicReference<>(new State(limit.capacity, System.nanoTime()));
+        }
+
+        private Decision tryConsume(Limit limit, long now) {
+            while (true) {
+                State current = state.get();
+                double elapsedSeconds = Math.max(0, now - current.updatedAt) / (double) TimeUnit.SECONDS.toNanos(1);
+                double tokens = Math.min(limit.capacity, current.tokens + elapsedSeconds * limit.refillPerSecond);
+                boolean allowed = tokens >= 1;
+                State next = new State(allowed ? tokens - 1 : tokens, Math.max(now, current.updatedAt));
+
+                if (state.compareAndSet(current, next)) {
+                    long reset = (long) Math.ceil((limit.capacity - next.tokens) / limit.refillPerSecond);
+                    long retryAfter = allowed ? 0 : (long) Math.ceil((1 - next.tokens) / limit.refillPerSecond);
+                    return new Decision(allowed, limit.capacity, (int) next.tokens, reset, Math.max(retryAfter, allowed ? 0 : 1));
+                }
+            }
+        }
+    }
+
+    private static class State {
+        private final double tokens;
+        private final long updatedAt;
+
+        private State(double tokens, long updatedAt) {
+            this.tokens = tokens;
+            this.updatedAt = updatedAt;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.volunteer.volunteer_app_backend.service;
 
+import com.volunteer.volunteer_app_backend.model.ReportFormat;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.eclipse.birt.core.framework.Platform;
 import org.eclipse.birt.core.exception.BirtException;
 import org.eclipse.birt.report.engine.api.EngineConfig;
@@ -9,46 +11,176 @@ import org.eclipse.birt.report.engine.api.HTMLRenderOption;
 import org.eclipse.birt.report.engine.api.IReportEngine;
 import org.eclipse.birt.report.engine.api.IReportEngineFactory;
 import org.eclipse.birt.report.engine.api.IReportRunnable;
-import org.eclipse.birt.report.engine.api.IRunAndRenderTask;
+import org.eclipse.birt.report.engine.api.IRenderTask;
+import org.eclipse.birt.report.engine.api.IReportDocument;
+import org.eclipse.birt.report.engine.api.IRunTask;
 import org.eclipse.birt.report.engine.api.PDFRenderOption;
 import org.eclipse.birt.report.engine.api.RenderOption;
 import org.eclipse.birt.report.model.api.OdaDataSourceHandle;
 import org.eclipse.birt.report.model.api.ReportDesignHandle;
 import org.eclipse.birt.report.model.api.activity.SemanticException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
-import java.io.ByteArrayOutputStream;
+import javax.sql.DataSource;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.sql.Connection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Level;
 
 @Service
 public class BirtReportService {
 
+    private static final Logger log = LoggerFactory.getLogger(BirtReportService.class);
+
+    private static final String PASS_IN_CONNECTION = "OdaJDBCDriverPassInConnection";
+    private static final String CLOSE_PASSED_IN_CONNECTION = "OdaJDBCDriverPassInConnectionCloseAfterUse";
+
     private final ResourceLoader resourceLoader;
+    private final DataSource dataSource;
     private final String datasourceUrl;
     private final String datasourceUsername;
     private final String datasourcePassword;
-    private IReportEngine reportEngine;
+    private final long designCheckIntervalMillis;
+    private final MeterRegistry meterRegistry;
+    private final ReportRenderLimiter renderLimiter;
+    private final Path documentDir;
+    private final Duration documentTtl;
+    private final boolean eagerStart;
+    private final Duration readyTimeout;
+    private final Duration retryAfter;
+    private final Level logLevel;
+    private final AtomicReference<CompletableFuture<IReportEngine>> engineStartup = new AtomicReference<>();
+    private volatile IReportEngine reportEngine;
+    private volatile ReportDesignCache designCache;
+    private volatile ReportDocumentCache documentCache;
 
     public BirtReportService(
             ResourceLoader resourceLoader,
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            ReportRenderLimiter renderLimiter,
             @Value("${spring.datasource.url}") String datasourceUrl,
             @Value("${spring.datasource.username}") String datasourceUsername,
-            @Value("${spring.datasource.password}") String datasourcePassword
+            @Value("${spring.datasource.password}") String datasourcePassword,
+            @Value("${app.reports.design-check-interval-ms:5000}") long designCheckIntervalMillis,
+            @Value("${app.reports.documents.dir:}") String documentDir,
+            @Value("${app.reports.documents.ttl:PT5M}") Duration documentTtl,
+            @Value("${app.reports.engine.eager-start:true}") boolean eagerStart,
+            @Value("${app.reports.engine.ready-timeout:PT2S}") Duration readyTimeout,
+            @Value("${app.reports.engine.retry-after:PT5S}") Duration retryAfter,
+            @Value("${app.reports.engine.log-level:WARNING}") String logLevel
     ) {
         this.resourceLoader = resourceLoader;
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.renderLimiter = renderLimiter;
         this.datasourceUrl = datasourceUrl;
         this.datasourceUsername = datasourceUsername;
         this.datasourcePassword = datasourcePassword;
+        this.designCheckIntervalMillis = designCheckIntervalMillis;
+        this.documentDir = documentDir.isBlank()
+                ? Paths.get(System.getProperty("java.io.tmpdir"), "volunteer-report-documents")
+                : Paths.get(documentDir);
+        this.documentTtl = documentTtl;
+        this.eagerStart = eagerStart;
+        this.readyTimeout = readyTimeout;
+        this.retryAfter = retryAfter;
+        this.logLevel = Level.parse(logLevel);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnReady() {
+        if (eagerStart) {
+            start();
+        }
+    }
+
+    public void start() {
+        CompletableFuture<IReportEngine> current = engineStartup.get();
+        if (current != null && !current.isCompletedExceptionally()) {
+            return;
+        }
+
+        CompletableFuture<IReportEngine> startup = new CompletableFuture<>();
+        if (engineStartup.compareAndSet(current, startup)) {
+            Thread thread = new Thread(() -> startEngine(startup), "birt-startup");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    public EngineState getState() {
+        CompletableFuture<IReportEngine> startup = engineStartup.get();
+        if (startup == null) {
+            return EngineState.STOPPED;
+        }
+        if (!startup.isDone()) {
+            return EngineState.STARTING;
+        }
+        return startup.isCompletedExceptionally() ? EngineState.FAILED : EngineState.READY;
+    }
+
+    public boolean isReady() {
+        return getState() == EngineState.READY;
     }
 
-    @PostConstruct
-    public void init() {
+    public void awaitReady() {
+        start();
+        try {
+            engineStartup.get().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReportEngineUnavailableException(retryAfter);
+        } catch (ExecutionException e) {
+            throw new ReportEngineUnavailableException(retryAfter);
+        }
+    }
+
+    public RenderPermit acquire(String format) {
+        IReportEngine engine = engine();
+        return new RenderPermit(engine, renderLimiter.acquire(ReportFormat.fromValue(format)), format);
+    }
+
+    public RenderPermit acquireQueued(String format) {
+        IReportEngine engine = engine();
+        return new RenderPermit(engine, renderLimiter.acquireQueued(ReportFormat.fromValue(format)), format);
+    }
+
+    private IReportEngine engine() {
+        start();
+        try {
+            return engineStartup.get().get(readyTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReportEngineUnavailableException(retryAfter);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new ReportEngineUnavailableException(retryAfter);
+        }
+    }
+
+    private void startEngine(CompletableFuture<IReportEngine> startup) {
+        long startedAt = System.nanoTime();
         EngineConfig config = new EngineConfig();
 
         config.setBIRTHome(
@@ -59,7 +191,7 @@ public class BirtReportService {
 
         config.setLogConfig(
                 Paths.get("birt-logs").toAbsolutePath().toString(),
-                java.util.logging.Level.ALL
+                logLevel
         );
 
         try {
@@ -70,45 +202,168 @@ public class BirtReportService {
                             IReportEngineFactory.EXTENSION_REPORT_ENGINE_FACTORY
                     );
 
-            this.reportEngine = factory.createReportEngine(config);
-        } catch (BirtException e) {
-            throw new IllegalStateException("Не удалось инициализировать BIRT", e);
+            IReportEngine engine = factory.createReportEngine(config);
+            this.designCache = new ReportDesignCache(
+                    engine,
+                    resourceLoader,
+                    this::configureDataSource,
+                    designCheckIntervalMillis,
+                    meterRegistry
+            );
+
+            Files.createDirectories(documentDir);
+            this.documentCache = new ReportDocumentCache(documentDir, documentTtl, meterRegistry);
+            this.reportEngine = engine;
+
+            log.info("BIRT engine started in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            startup.complete(engine);
+        } catch (BirtException | IOException | RuntimeException e) {
+            log.error("Could not start BIRT engine", e);
+            startup.completeExceptionally(new IllegalStateException("Не удалось инициализировать BIRT", e));
         }
     }
 
     @PreDestroy
     public void destroy() {
+        if (documentCache != null) {
+            documentCache.clear();
+        }
         if (reportEngine != null) {
             reportEngine.destroy();
+            Platform.shutdown();
         }
-        Platform.shutdown();
     }
 
-    public byte[] renderReport(String templatePath) {
-        return renderReport(templatePath, "html");
+    /**
+     * Renders for report jobs and snapshots: waits for a render slot instead of failing after the interactive
+     * queue timeout.
+     */
+    public void renderReport(
+            String templatePath,
+            String format,
+            Map<String, Object> parameters,
+            OutputStream outputStream
+    ) {
+        try (RenderPermit permit = acquireQueued(format)) {
+            permit.render(templatePath, parameters, outputStream);
+        }
+    }
+
+    private void render(
+            IReportEngine engine,
+            String templatePath,
+            String format,
+            Map<String, Object> parameters,
+            boolean fresh,
+            OutputStream outputStream
+    ) {
+        Consumer<Path> runner = path -> runReport(engine, templatePath, parameters, path);
+        ReportDocumentCache.Lease lease = fresh
+                ? documentCache.executeUncached(runner)
+                : documentCache.get(documentKey(templatePath, parameters), runner);
+
+        try (lease) {
+            IReportDocument document = engine.openReportDocument(lease.getPath().toString());
+            try {
+                IRenderTask task = engine.createRenderTask(document);
+                try {
+                    task.setRenderOption(createRenderOption(format, outputStream));
+                    task.render();
+                } finally {
+                    task.close();
+                }
+            } finally {
+                document.close();
+            }
+        } catch (Exception ex) {
+            throw new IllegalStateException("Не удалось сформировать отчет", ex);
+        }
+    }
+
+    public void evictDocuments() {
+        if (documentCache != null) {
+            documentCache.clear();
+        }
     }
 
-    public byte[] renderReport(String templatePath, String format) {
-        try (
-                InputStream templateStream = resourceLoader
-                        .getResource("classpath:" + templatePath)
-                        .getInputStream();
-                ByteArrayOutputStream outputStream = new ByteArrayOutputStream()
+    @Scheduled(fixedDelayString = "${app.reports.documents.cleanup-interval:PT1M}")
+    public void evictExpiredDocuments() {
+        if (documentCache != null) {
+            documentCache.evictExpired();
+        }
+    }
+
+    public class RenderPermit implements AutoCloseable {
+        private final IReportEngine engine;
+        private final ReportRenderLimiter.Permit permit;
+        private final String format;
+
+        private RenderPermit(IReportEngine engine, ReportRenderLimiter.Permit permit, String format) {
+            this.engine = engine;
+            this.permit = permit;
+            this.format = format;
+        }
+
+        public void render(String templatePath, Map<String, Object> parameters, OutputStream outputStream) {
+            render(templatePath, parameters, false, outputStream);
+        }
+
+        /**
+         * With {@code fresh}, the report is executed again instead of being rendered from a cached document.
+         */
+        public void render(
+                String templatePath,
+                Map<String, Object> parameters,
+                boolean fresh,
+                OutputStream outputStream
         ) {
-            IReportRunnable design = reportEngine.openReportDesign(templateStream);
-            configureDataSource(design);
+            BirtReportService.this.render(engine, templatePath, format, parameters, fresh, outputStream);
+        }
 
-            IRunAndRenderTask task = reportEngine.createRunAndRenderTask(design);
+        @Override
+        public void close() {
+            permit.close();
+        }
+    }
 
-            RenderOption options = createRenderOption(format, outputStream);
+    public enum EngineState {
+        STOPPED,
+        STARTING,
+        READY,
+        FAILED
+    }
 
-            task.setRenderOption(options);
-            task.run();
-            task.close();
+    private String documentKey(String templatePath, Map<String, Object> parameters) {
+        return parameters.isEmpty() ? templatePath : templatePath + new TreeMap<>(parameters);
+    }
+
+    private void runReport(
+            IReportEngine engine,
+            String templatePath,
+            Map<String, Object> parameters,
+            Path documentPath
+    ) {
+        IReportRunnable design = designCache.get(templatePath);
+
+        try (Connection connection = dataSource.getConnection()) {
+            IRunTask task = engine.createRunTask(design);
+            try {
+                Map<String, Object> appContext = new HashMap<>();
+                appContext.put(PASS_IN_CONNECTION, connection);
+                appContext.put(CLOSE_PASSED_IN_CONNECTION, false);
+                task.setAppContext(appContext);
 
-            return outputStream.toByteArray();
+                task.setParameterValues(parameters);
+                if (!task.validateParameters()) {
+                    throw new IllegalArgumentException("Некорректные параметры отчета: " + parameters);
+                }
+
+                task.run(documentPath.toString());
+            } finally {
+                task.close();
+            }
         } catch (Exception ex) {
-            throw new IllegalStateException("Не удалось сформировать отчет", ex);
+            throw new IllegalStateException("Не удалось выполнить отчет", ex);
         }
     }
 
@@ -135,7 +390,7 @@ public class BirtReportService {
         }
     }
 
-    private RenderOption createRenderOption(String format, ByteArrayOutputStream outputStream) throws EngineException {
+    private RenderOption createRenderOption(String format, OutputStream outputStream) throws EngineException {
         switch (format) {
             case "html": {
                 HTMLRenderOption options = new HTMLRenderOption();
@@ -0,0 +1,58 @@
+package com.volunteer.volunteer_app_backend.service;
+
+import com.volunteer.volunteer_app_backend.repository.VersionStamp;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.function.Supplier;
+
+final class ConditionalUpdates {
+
+    private ConditionalUpdates() {
+    }
+
+    static String etag(VersionStamp stamp) {
+        return stamp.getCount() == 0 ? null : stamp.toEtag();
+    }
+
+    /**
+     * Checks {@code If-Match} against the stamp without loading the entity and returns the version the
+     * write has to find, or null when the request is unconditional.
+     */
+    static Long expectedVersion(String ifMatch, Supplier<VersionStamp> stamp, String entity) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+
+        VersionStamp current = stamp.get();
+        if (current.getCount() == 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, entity + " not found");
+        }
+        if (!current.matches(ifMatch)) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, entity + " has been modified");
+        }
+        return current.getVersionSum();
+    }
+
+    /**
+     * Re-checks the version of the entity loaded inside the update transaction; Hibernate's own version
+     * check covers the rest of the transaction.
+     */
+    static void checkVersion(Long current, Long expectedVersion, String entity) {
+        if (expectedVersion != null && !expectedVersion.equals(current)) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, entity + " has been modified");
+        }
+    }
+
+    static <T> T save(Supplier<T> save, Long expectedVersion, String entity) {
+        try {
+            return save.get();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new ResponseStatusException(
+                    expectedVersion == null ? HttpStatus.CONFLICT : HttpStatus.PRECONDITION_FAILED,
+                    entity + " has been modified concurrently"
+            );
+        }
+    }
+}
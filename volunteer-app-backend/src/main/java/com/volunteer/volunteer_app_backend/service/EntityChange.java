@@ -0,0 +1,62 @@
+package com.volunteer.volunteer_app_backend.service;
+
+import com.volunteer.volunteer_app_backend.model.Project;
+import com.volunteer.volunteer_app_backend.model.Task;
+import com.volunteer.volunteer_app_backend.model.User;
+import com.volunteer.volunteer_app_backend.model.VolunteerGroup;
+import lombok.Getter;
+
+@Getter
+public class EntityChange {
+
+    public enum Type {
+        TASK(Task.class),
+        PROJECT(Project.class),
+        USER(User.class),
+        GROUP(VolunteerGroup.class);
+
+        @Getter
+        private final Class<?> entityClass;
+
+        Type(Class<?> entityClass) {
+            this.entityClass = entityClass;
+        }
+    }
+
+    private final Type type;
+    private final long id;
+    private final Long version;
+
+    public EntityChange(Type type, long id, Long version) {
+        this.type = type;
+        this.id = id;
+        this.version = version;
+    }
+
+    String key() {
+        return type + ":" + id;
+    }
+
+    String encode() {
+        return key() + ":" + (version == null ? "" : version);
+    }
+
+    static EntityChange decode(String value) {
+        String[] parts = value.split(":", -1);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed entity change: " + value);
+        }
+        return new EntityChange(
+                Type.valueOf(parts[0]),
+                Long.parseLong(parts[1]),
+                parts[2].isEmpty() ? null : Long.valueOf(parts[2])
+        );
+    }
+
+    EntityChange newer(EntityChange other) {
+        if (other.version == null) {
+            return version == null ? other : this;
+        }
+        return version != null && version > other.version ? this : other;
+    }
+}
@@ -0,0 +1,150 @@
+package com.volunteer.volunteer_app_backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Listens for entity changes published by other replicas on a dedicated connection, outside the pool,
+ * and evicts them from the local second-level cache. Every (re)subscription starts with a full eviction,
+ * since notifications sent while the listener was disconnected are lost.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class EntityChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityChangeListener.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityChangePublisher publisher;
+    private final DataSourceProperties dataSourceProperties;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+    private final Counter received;
+    private final Counter fullEvictions;
+    private final Counter reconnects;
+    private volatile boolean running;
+    private volatile Thread thread;
+
+    public EntityChangeListener(
+            EntityManagerFactory entityManagerFactory,
+            EntityChangePublisher publisher,
+            DataSourceProperties dataSourceProperties,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.invalidation.poll-timeout:PT1S}") Duration pollTimeout,
+            @Value("${app.cache.invalidation.reconnect-delay:PT5S}") Duration reconnectDelay
+    ) {
+        if (!publisher.getChannel().matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Invalid notification channel: " + publisher.getChannel());
+        }
+        this.entityManagerFactory = entityManagerFactory;
+        this.publisher = publisher;
+        this.dataSourceProperties = dataSourceProperties;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+        this.received = Counter.builder("cache.invalidation.received").register(meterRegistry);
+        this.fullEvictions = Counter.builder("cache.invalidation.full-evictions").register(meterRegistry);
+        this.reconnects = Counter.builder("cache.invalidation.reconnects").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        Thread listener = new Thread(this::listen, "entity-change-listener");
+        listener.setDaemon(true);
+        thread = listener;
+        listener.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Thread listener = thread;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("listen " + publisher.getChannel());
+                }
+                evictAll();
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            handle(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                reconnects.increment();
+                log.warn("Entity change listener disconnected, retrying in {}", reconnectDelay, e);
+                try {
+                    Thread.sleep(reconnectDelay.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void handle(String payload) {
+        int separator = payload.indexOf(EntityChangePublisher.NODE_SEPARATOR);
+        if (separator < 0 || payload.substring(0, separator).equals(publisher.getNodeId())) {
+            return;
+        }
+
+        String body = payload.substring(separator + 1);
+        if (EntityChangePublisher.FLUSH_ALL.equals(body)) {
+            evictAll();
+            return;
+        }
+
+        Cache cache = entityManagerFactory.getCache();
+        for (String encoded : body.split(",")) {
+            try {
+                EntityChange change = EntityChange.decode(encoded);
+                cache.evict(change.getType().getEntityClass(), change.getId());
+                received.increment();
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring entity change {}", encoded, e);
+            }
+        }
+    }
+
+    private void evictAll() {
+        entityManagerFactory.getCache().evictAll();
+        fullEvictions.increment();
+    }
+}
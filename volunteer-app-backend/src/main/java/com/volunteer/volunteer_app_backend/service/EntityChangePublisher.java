@@ -0,0 +1,143 @@
+package com.volunteer.volunteer_app_backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Publishes entity changes to the other replicas over {@code pg_notify}. Changes are queued after commit,
+ * coalesced per entity and sent in batches; a burst larger than the flush threshold is sent as a single
+ * "evict everything" message instead.
+ */
+@Service
+public class EntityChangePublisher {
+
+    static final String FLUSH_ALL = "*";
+    static final char NODE_SEPARATOR = '|';
+
+    // pg_notify rejects payloads of 8000 bytes or more; encoded changes are ASCII.
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+
+    private static final Logger log = LoggerFactory.getLogger(EntityChangePublisher.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    @Getter
+    private final String channel;
+    private final int flushThreshold;
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, EntityChange> pending = new ConcurrentHashMap<>();
+    private final Counter published;
+    private final Counter notifications;
+
+    public EntityChangePublisher(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.invalidation.enabled:true}") boolean enabled,
+            @Value("${app.cache.invalidation.channel:entity_changes}") String channel,
+            @Value("${app.cache.invalidation.flush-threshold:1000}") int flushThreshold
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.channel = channel;
+        this.flushThreshold = flushThreshold;
+        this.published = Counter.builder("cache.invalidation.published").register(meterRegistry);
+        this.notifications = Counter.builder("cache.invalidation.notifications").register(meterRegistry);
+        meterRegistry.gaugeMapSize("cache.invalidation.pending", Tags.empty(), pending);
+    }
+
+    public void publish(EntityChange.Type type, Long id) {
+        publish(type, id, null);
+    }
+
+    public void publish(EntityChange.Type type, Long id, Long version) {
+        if (!enabled || id == null) {
+            return;
+        }
+
+        EntityChange change = new EntityChange(type, id, version);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(change);
+                }
+            });
+        } else {
+            enqueue(change);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.flush-interval:PT0.2S}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<String> batch = new ArrayList<>();
+        for (String key : pending.keySet()) {
+            EntityChange change = pending.remove(key);
+            if (change != null) {
+                batch.add(change.encode());
+            }
+        }
+
+        try {
+            if (batch.size() > flushThreshold) {
+                send(FLUSH_ALL);
+            } else {
+                sendBatched(batch);
+            }
+            published.increment(batch.size());
+        } catch (DataAccessException e) {
+            // Other replicas fall back to the cache TTL for these entities.
+            log.warn("Could not publish {} entity changes", batch.size(), e);
+        }
+    }
+
+    private void enqueue(EntityChange change) {
+        pending.merge(change.key(), change, EntityChange::newer);
+    }
+
+    private void sendBatched(List<String> changes) {
+        int limit = MAX_PAYLOAD_BYTES - nodeId.length() - 1;
+        StringBuilder payload = new StringBuilder();
+        for (String change : changes) {
+            if (!payload.isEmpty() && payload.length() + 1 + change.length() > limit) {
+                send(payload.toString());
+                payload.setLength(0);
+            }
+            if (!payload.isEmpty()) {
+                payload.append(',');
+            }
+            payload.append(change);
+        }
+        if (!payload.isEmpty()) {
+            send(payload.toString());
+        }
+    }
+
+    private void send(String body) {
+        jdbcTemplate.query("select pg_notify(?, ?)", (ResultSetExtractor<Void>) rs -> null,
+                channel, nodeId + NODE_SEPARATOR + body);
+        notifications.increment();
+    }
+}
@@ -0,0 +1,202 @@
+package com.volunteer.volunteer_app_backend.service;
+
+import com.volunteer.volunteer_app_backend.dto.ProjectDeletionResponse;
+import com.volunteer.volunteer_app_backend.model.ProjectPurge;
+import com.volunteer.volunteer_app_backend.repository.ProjectParticipantRepository;
+import com.volunteer.volunteer_app_backend.repository.ProjectPurgeRepository;
+import com.volunteer.volunteer_app_backend.repository.ProjectRepository;
+import com.volunteer.volunteer_app_backend.repository.TaskCommentRepository;
+import com.volunteer.volunteer_app_backend.repository.TaskDeletionRepository;
+import com.volunteer.volunteer_app_backend.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Deletes projects, in chunks when they are large. Purges are claimed and tracked in the database so that any
+ * replica can accept the DELETE, answer the progress poll or resume a purge after a restart, and only one of
+ * them runs a given purge at a time.
+ */
+@Service
+public class ProjectDeletionService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectDeletionService.class);
+    private static final String PURGE_LOCK_SQL =
+            "select pg_try_advisory_xact_lock(hashtext('project_purge'), cast(? % 2147483647 as int))";
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TaskCommentRepository taskCommentRepository;
+    private final TaskDeletionRepository taskDeletionRepository;
+    private final ProjectParticipantRepository participantRepository;
+    private final ProjectPurgeRepository purgeRepository;
+    private final VolunteerOccupancyService occupancyService;
+    private final EntityChangePublisher changePublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final DataSource dataSource;
+    private final int chunkSize;
+    private final Duration progressRetention;
+
+    public ProjectDeletionService(
+            ProjectRepository projectRepository,
+            TaskRepository taskRepository,
+            TaskCommentRepository taskCommentRepository,
+            TaskDeletionRepository taskDeletionRepository,
+            ProjectParticipantRepository participantRepository,
+            ProjectPurgeRepository purgeRepository,
+            VolunteerOccupancyService occupancyService,
+            EntityChangePublisher changePublisher,
+            PlatformTransactionManager transactionManager,
+            DataSource dataSource,
+            @Value("${app.projects.purge.chunk-size:1000}") int chunkSize,
+            @Value("${app.projects.purge.progress-retention:PT1H}") Duration progressRetention
+    ) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.taskCommentRepository = taskCommentRepository;
+        this.taskDeletionRepository = taskDeletionRepository;
+        this.participantRepository = participantRepository;
+        this.purgeRepository = purgeRepository;
+        this.occupancyService = occupancyService;
+        this.changePublisher = changePublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dataSource = dataSource;
+        this.chunkSize = chunkSize;
+        this.progressRetention = progressRetention;
+    }
+
+    public void deleteNow(Long projectId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> assigneeIds = taskRepository.findAssigneeUserIdsByProjectId(projectId);
+            taskCommentRepository.deleteAllByProjectId(projectId);
+            taskDeletionRepository.recordProject(projectId);
+            taskRepository.deleteAllByProjectId(projectId);
+            participantRepository.deleteAllByProjectId(projectId);
+            projectRepository.deleteProjectById(projectId);
+            occupancyService.refresh(assigneeIds);
+            changePublisher.publish(EntityChange.Type.PROJECT, projectId);
+        });
+    }
+
+    /**
+     * Marks the project as deleting and registers its purge unless one is already running. The caller starts
+     * {@link #purgeInChunks} either way: the purge lock makes a duplicate start a no-op, and it picks up a purge
+     * whose node went away.
+     */
+    public void startPurge(Long projectId, long totalTasks) {
+        purgeRepository.start(projectId, totalTasks);
+        if (projectRepository.markDeleting(projectId) > 0) {
+            changePublisher.publish(EntityChange.Type.PROJECT, projectId);
+        }
+    }
+
+    /**
+     * Runs the purge while holding a transaction-scoped advisory lock on a dedicated connection; returns at
+     * once when another node or thread already holds it. The lock is released with that transaction, also
+     * when this node dies mid-purge.
+     */
+    @Async
+    public void purgeInChunks(Long projectId) {
+        try (Connection lockConnection = dataSource.getConnection()) {
+            lockConnection.setAutoCommit(false);
+            try {
+                if (tryLock(lockConnection, projectId)) {
+                    purge(projectId);
+                }
+            } finally {
+                lockConnection.rollback();
+            }
+        } catch (SQLException e) {
+            log.error("Project {} purge could not take its lock", projectId, e);
+        }
+    }
+
+    public ProjectDeletionResponse getProgress(Long projectId) {
+        ProjectPurge purge = purgeRepository.findById(projectId)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND, "No deletion in progress for project " + projectId));
+        ProjectDeletionResponse.Status status = ProjectDeletionResponse.Status.valueOf(purge.getStatus());
+        long remaining = status == ProjectDeletionResponse.Status.DELETED
+                ? 0
+                : taskRepository.countByProject_Id(projectId);
+        return ProjectDeletionResponse.builder()
+                .projectId(projectId)
+                .status(status)
+                .totalTasks(purge.getTotalTasks())
+                .deletedTasks(Math.max(0, purge.getTotalTasks() - remaining))
+                .build();
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedPurges() {
+        for (Long projectId : projectRepository.findDeletingIds()) {
+            purgeRepository.start(projectId, taskRepository.countByProject_Id(projectId));
+            purgeInChunks(projectId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.projects.purge.progress-cleanup-interval:PT10M}")
+    public void evictFinishedProgress() {
+        purgeRepository.deleteFinishedBefore(LocalDateTime.now().minus(progressRetention));
+    }
+
+    private void purge(Long projectId) {
+        // Another node may have finished this purge between the caller's check and taking the lock.
+        if (!projectRepository.findDeletingById(projectId).orElse(false)) {
+            return;
+        }
+        log.info("Purging project {}", projectId);
+
+        try {
+            List<Long> taskIds;
+            do {
+                taskIds = taskRepository.findIdsByProjectId(projectId, PageRequest.of(0, chunkSize));
+                if (!taskIds.isEmpty()) {
+                    List<Long> chunk = taskIds;
+                    transactionTemplate.executeWithoutResult(status -> {
+                        List<Long> assigneeIds = taskRepository.findAssigneeUserIdsByIdIn(chunk);
+                        taskCommentRepository.deleteAllByTaskIdIn(chunk);
+                        taskDeletionRepository.recordTasks(chunk);
+                        taskRepository.deleteAllByIdIn(chunk);
+                        occupancyService.refresh(assigneeIds);
+                    });
+                }
+            } while (taskIds.size() == chunkSize);
+
+            deleteNow(projectId);
+            purgeRepository.finish(projectId, ProjectDeletionResponse.Status.DELETED.name(), LocalDateTime.now());
+        } catch (RuntimeException e) {
+            purgeRepository.finish(projectId, ProjectDeletionResponse.Status.FAILED.name(), LocalDateTime.now());
+            log.error("Project {} purge failed", projectId, e);
+        }
+    }
+
+    private static boolean tryLock(Connection connection, Long projectId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(PURGE_LOCK_SQL)) {
+            statement.setLong(1, projectId);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() && result.getBoolean(1);
+            }
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package com.volunteer.volunteer_app_backend.service;
 
+import com.volunteer.volunteer_app_backend.dto.ProjectDeletionResponse;
+import com.volunteer.volunteer_app_backend.dto.ProjectResponse;
+import com.volunteer.volunteer_app_backend.dto.UserSummaryResponse;
 import com.volunteer.volunteer_app_backend.model.Project;
 import com.volunteer.volunteer_app_backend.model.User;
-import com.volunteer.volunteer_app_backend.repository.ProjectParticipantRepository;
 import com.volunteer.volunteer_app_backend.repository.ProjectRepository;
 import com.volunteer.volunteer_app_backend.repository.TaskRepository;
 import com.volunteer.volunteer_app_backend.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
@@ -15,19 +17,36 @@ import java.time.Instant;
 import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final TaskRepository taskRepository;
-    private final ProjectParticipantRepository participantRepository;
+    private final ProjectDeletionService projectDeletionService;
+    private final EntityChangePublisher changePublisher;
+    private final long purgeThreshold;
+
+    public ProjectService(
+            ProjectRepository projectRepository,
+            UserRepository userRepository,
+            TaskRepository taskRepository,
+            ProjectDeletionService projectDeletionService,
+            EntityChangePublisher changePublisher,
+            @Value("${app.projects.purge.sync-threshold:5000}") long purgeThreshold
+    ) {
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.projectDeletionService = projectDeletionService;
+        this.changePublisher = changePublisher;
+        this.purgeThreshold = purgeThreshold;
+    }
 
-    public List<Project> getAll() {
-        return projectRepository.findAll();
+    public List<ProjectResponse> getAll() {
+        return toResponses(projectRepository.findAll());
     }
 
-    public List<Project> getByOrganizerId(Long organizerId) {
+    public List<ProjectResponse> getByOrganizerId(Long organizerId) {
         if (organizerId == null) {
             throw new ResponseStatusException(
                     HttpStatus.BAD_REQUEST,
@@ -42,10 +61,10 @@ public class ProjectService {
             );
         }
 
-        return projectRepository.findByOrganizerId(organizerId);
+        return toResponses(projectRepository.findByOrganizerId(organizerId));
     }
 
-    public List<Project> getByParticipantId(Long userId) {
+    public List<ProjectResponse> getByParticipantId(Long userId) {
         if (userId == null) {
             throw new ResponseStatusException(
                     HttpStatus.BAD_REQUEST,
@@ -60,10 +79,10 @@ public class ProjectService {
             );
         }
 
-        return projectRepository.findByParticipantId(userId);
+        return toResponses(projectRepository.findByParticipantId(userId));
     }
 
-    public List<Project> getByNonParticipantId(Long userId) {
+    public List<ProjectResponse> getByNonParticipantId(Long userId) {
         if (userId == null) {
             throw new ResponseStatusException(
                     HttpStatus.BAD_REQUEST,
@@ -78,35 +97,64 @@ public class ProjectService {
             );
         }
 
-        return projectRepository.findByNonParticipantId(userId);
+        return toResponses(projectRepository.findByNonParticipantId(userId));
+    }
+
+    public String getEtag(Long id) {
+        return ConditionalUpdates.etag(projectRepository.findVersionStampById(id));
+    }
+
+    public String getAllEtag() {
+        return projectRepository.findVersionStamp().toEtag();
+    }
+
+    public String getByOrganizerEtag(Long organizerId) {
+        if (!userRepository.existsById(organizerId)) {
+            return null;
+        }
+        return projectRepository.findVersionStampByOrganizerId(organizerId).toEtag();
+    }
+
+    public String getByParticipantEtag(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            return null;
+        }
+        return projectRepository.findVersionStampByParticipantId(userId).toEtag();
     }
 
-    public Project getById(Long id) {
-        return projectRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found"));
+    public ProjectResponse getById(Long id) {
+        return toResponse(projectRepository.findWithOrganizerById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found")));
     }
 
-    public Project create(Project project) {
+    public ProjectResponse create(Project project) {
 
         if (project.getTitle() != null) {
             project.setTitle(project.getTitle().trim());
         }
 
         project.setCreatedAt(Instant.now());
+        project.setDeleting(false);
 
         attachOrganizerIfPresent(project);
 
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+        changePublisher.publish(EntityChange.Type.PROJECT, saved.getId(), saved.getVersion());
+        return toResponse(saved);
     }
 
-    public Project update(Long id, Project updated) {
-        Project existing = projectRepository.findById(id)
+    @Transactional
+    public ProjectResponse update(Long id, Project updated, String ifMatch) {
+        Long expectedVersion = ConditionalUpdates.expectedVersion(
+                ifMatch, () -> projectRepository.findVersionStampById(id), "Project");
+        Project existing = projectRepository.findWithOrganizerById(id)
                 .orElseThrow(() ->
                         new ResponseStatusException(
                                 HttpStatus.NOT_FOUND,
                                 "Project not found"
                         )
                 );
+        ConditionalUpdates.checkVersion(existing.getVersion(), expectedVersion, "Project");
 
         if (updated.getTitle() != null) {
             existing.setTitle(updated.getTitle());
@@ -125,17 +173,34 @@ public class ProjectService {
             existing.setOrganizer(updated.getOrganizer());
         }
 
-        return projectRepository.save(existing);
+        Project saved = ConditionalUpdates.save(() -> projectRepository.saveAndFlush(existing), expectedVersion, "Project");
+        changePublisher.publish(EntityChange.Type.PROJECT, saved.getId(), saved.getVersion());
+        return toResponse(saved);
     }
 
-    @Transactional
-    public void delete(Long id) {
-        if (!projectRepository.existsById(id)) {
-            throw new IllegalArgumentException("Project not found: " + id);
+    public ProjectDeletionResponse delete(Long id) {
+        Project project = projectRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found: " + id));
+
+        long totalTasks = taskRepository.countByProject_Id(id);
+
+        if (!project.isDeleting() && totalTasks <= purgeThreshold) {
+            projectDeletionService.deleteNow(id);
+            return ProjectDeletionResponse.builder()
+                    .projectId(id)
+                    .status(ProjectDeletionResponse.Status.DELETED)
+                    .totalTasks(totalTasks)
+                    .deletedTasks(totalTasks)
+                    .build();
         }
-        taskRepository.deleteByProject_Id(id);
-        participantRepository.deleteByProject_Id(id);
-        projectRepository.deleteById(id);
+
+        projectDeletionService.startPurge(id, totalTasks);
+        projectDeletionService.purgeInChunks(id);
+        return projectDeletionService.getProgress(id);
+    }
+
+    public ProjectDeletionResponse getDeletionProgress(Long id) {
+        return projectDeletionService.getProgress(id);
     }
 
     private void attachOrganizerIfPresent(Project project) {
@@ -175,4 +240,22 @@ public class ProjectService {
 
         return projectRepository.findAllParticipantsByOrganizerId(organizerId);
     }
+
+    private List<ProjectResponse> toResponses(List<Project> projects) {
+        return projects.stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    private ProjectResponse toResponse(Project project) {
+        return ProjectResponse.builder()
+                .id(project.getId())
+                .title(project.getTitle())
+                .shortDescription(project.getShortDescription())
+                .description(project.getDescription())
+                .organizer(UserSummaryResponse.of(project.getOrganizer()))
+                .createdAt(project.getCreatedAt())
+                .deleting(project.isDeleting())
+                .build();
+    }
 }
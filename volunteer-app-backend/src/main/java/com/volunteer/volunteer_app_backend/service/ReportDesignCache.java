@@ -0,0 +1,134 @@
+package com.volunteer.volunteer_app_backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.eclipse.birt.report.engine.api.IReportEngine;
+import org.eclipse.birt.report.engine.api.IReportRunnable;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+class ReportDesignCache {
+
+    private final IReportEngine reportEngine;
+    private final ResourceLoader resourceLoader;
+    private final Consumer<IReportRunnable> dataSourceBinder;
+    private final long checkIntervalMillis;
+    private final Counter hits;
+    private final Counter misses;
+    private final Map<String, CachedDesign> designs = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<CachedDesign>> loads = new ConcurrentHashMap<>();
+
+    ReportDesignCache(
+            IReportEngine reportEngine,
+            ResourceLoader resourceLoader,
+            Consumer<IReportRunnable> dataSourceBinder,
+            long checkIntervalMillis,
+            MeterRegistry meterRegistry
+    ) {
+        this.reportEngine = reportEngine;
+        this.resourceLoader = resourceLoader;
+        this.dataSourceBinder = dataSourceBinder;
+        this.checkIntervalMillis = checkIntervalMillis;
+        this.hits = Counter.builder("reports.design.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("reports.design.cache").tag("result", "miss").register(meterRegistry);
+        meterRegistry.gaugeMapSize("reports.design.cache.size", Tags.empty(), designs);
+    }
+
+    IReportRunnable get(String templatePath) {
+        long now = System.currentTimeMillis();
+        CachedDesign cached = designs.get(templatePath);
+
+        if (cached != null && now - cached.checkedAt < checkIntervalMillis) {
+            hits.increment();
+            return cached.runnable;
+        }
+
+        Resource resource = resourceLoader.getResource("classpath:" + templatePath);
+        long lastModified = lastModified(resource);
+
+        if (cached != null && cached.lastModified == lastModified) {
+            cached.checkedAt = now;
+            hits.increment();
+            return cached.runnable;
+        }
+
+        // Concurrent misses wait for the one load in progress instead of parsing the template again.
+        CompletableFuture<CachedDesign> load = new CompletableFuture<>();
+        CompletableFuture<CachedDesign> running = loads.putIfAbsent(templatePath, load);
+        if (running != null) {
+            return await(running).runnable;
+        }
+
+        try {
+            CachedDesign current = designs.get(templatePath);
+            if (current != null && current.lastModified == lastModified) {
+                current.checkedAt = now;
+            } else {
+                misses.increment();
+                current = new CachedDesign(load(resource), lastModified, now);
+                designs.put(templatePath, current);
+            }
+            load.complete(current);
+            return current.runnable;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(templatePath, load);
+        }
+    }
+
+    private CachedDesign await(CompletableFuture<CachedDesign> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    void invalidate() {
+        designs.clear();
+    }
+
+    private IReportRunnable load(Resource resource) {
+        try (InputStream templateStream = resource.getInputStream()) {
+            IReportRunnable design = reportEngine.openReportDesign(templateStream);
+            dataSourceBinder.accept(design);
+            return design;
+        } catch (Exception ex) {
+            throw new IllegalStateException("Не удалось загрузить шаблон отчета " + resource.getDescription(), ex);
+        }
+    }
+
+    private long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static class CachedDesign {
+        private final IReportRunnable runnable;
+        private final long lastModified;
+        private volatile long checkedAt;
+
+        private CachedDesign(IReportRunnable runnable, long lastModified, long checkedAt) {
+            this.runnable = runnable;
+            this.lastModified = lastModified;
+            this.checkedAt = checkedAt;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.volunteer.volunteer_app_backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+class ReportDocumentCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportDocumentCache.class);
+
+    private final Path directory;
+    private final Duration ttl;
+    private final Counter hits;
+    private final Counter misses;
+    private final Map<String, ExecutedDocument> documents = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<ExecutedDocument>> executions = new ConcurrentHashMap<>();
+
+    ReportDocumentCache(Path directory, Duration ttl, MeterRegistry meterRegistry) {
+        this.directory = directory;
+        this.ttl = ttl;
+        this.hits = Counter.builder("reports.document.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("reports.document.cache").tag("result", "miss").register(meterRegistry);
+        meterRegistry.gaugeMapSize("reports.document.cache.size", Tags.empty(), documents);
+    }
+
+    /**
+     * Returns a lease on the executed document; the file stays on disk until every lease on it is closed, even if
+     * the entry is replaced, expires or is cleared in the meantime.
+     */
+    Lease get(String key, Consumer<Path> runner) {
+        while (true) {
+            ExecutedDocument cached = documents.get(key);
+            if (cached != null && cached.isFresh(Instant.now(), ttl) && cached.acquire()) {
+                hits.increment();
+                return new Lease(cached);
+            }
+
+            misses.increment();
+            ExecutedDocument executed = execute(key, runner);
+            if (executed.acquire()) {
+                return new Lease(executed);
+            }
+        }
+    }
+
+    /**
+     * Executes the report into a document that is never shared; it is deleted when the lease is closed.
+     */
+    Lease executeUncached(Consumer<Path> runner) {
+        Path path = directory.resolve(UUID.randomUUID() + ".rptdocument");
+        ExecutedDocument document = new ExecutedDocument(path, Instant.now());
+        try {
+            runner.accept(path);
+        } catch (RuntimeException e) {
+            delete(path);
+            throw e;
+        }
+        document.acquire();
+        document.retire();
+        return new Lease(document);
+    }
+
+    private ExecutedDocument execute(String key, Consumer<Path> runner) {
+        CompletableFuture<ExecutedDocument> execution = new CompletableFuture<>();
+        CompletableFuture<ExecutedDocument> running = executions.putIfAbsent(key, execution);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            ExecutedDocument current = documents.get(key);
+            if (current == null || !current.isFresh(Instant.now(), ttl)) {
+                Path path = directory.resolve(UUID.randomUUID() + ".rptdocument");
+                try {
+                    runner.accept(path);
+                } catch (RuntimeException e) {
+                    delete(path);
+                    throw e;
+                }
+                current = new ExecutedDocument(path, Instant.now());
+
+                ExecutedDocument previous = documents.put(key, current);
+                if (previous != null) {
+                    retire(previous);
+                }
+            }
+            execution.complete(current);
+            return current;
+        } catch (RuntimeException e) {
+            execution.completeExceptionally(e);
+            throw e;
+        } finally {
+            executions.remove(key, execution);
+        }
+    }
+
+    private ExecutedDocument await(CompletableFuture<ExecutedDocument> execution) {
+        try {
+            return execution.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    void evictExpired() {
+        Instant now = Instant.now();
+        documents.values().removeIf(document -> {
+            if (document.isFresh(now, ttl)) {
+                return false;
+            }
+            retire(document);
+            return true;
+        });
+    }
+
+    void clear() {
+        documents.values().removeIf(document -> {
+            retire(document);
+            return true;
+        });
+    }
+
+    private void retire(ExecutedDocument document) {
+        if (document.retire()) {
+            delete(document.path);
+        }
+    }
+
+    private void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete report document {}", path, e);
+        }
+    }
+
+    class Lease implements AutoCloseable {
+        private final ExecutedDocument document;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Lease(ExecutedDocument document) {
+            this.document = document;
+        }
+
+        Path getPath() {
+            return document.path;
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true) && document.release()) {
+                delete(document.path);
+            }
+        }
+    }
+
+    private static class ExecutedDocument {
+        private final Path path;
+        private final Instant executedAt;
+        private int leases;
+        private boolean retired;
+
+        private ExecutedDocument(Path path, Instant executedAt) {
+            this.path = path;
+            this.executedAt = executedAt;
+        }
+
+        private boolean isFresh(Instant now, Duration ttl) {
+            return executedAt.plus(ttl).isAfter(now);
+        }
+
+        private synchronized boolean acquire() {
+            if (retired) {
+                return false;
+            }
+            leases++;
+            return true;
+        }
+
+        /**
+         * Returns true when the file can be deleted now.
+         */
+        private synchronized boolean release() {
+            leases--;
+            return retired && leases == 0;
+        }
+
+        private synchronized boolean retire() {
+            if (retired) {
+                return false;
+            }
+            retired = true;
+            return leases == 0;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.volunteer.volunteer_app_backend.service;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+
+public class ReportEngineUnavailableException extends ResponseStatusException {
+
+    private final Duration retryAfter;
+
+    public ReportEngineUnavailableException(Duration retryAfter) {
+        this("Генератор отчетов еще запускается", retryAfter);
+    }
+
+    public ReportEngineUnavailableException(String reason, Duration retryAfter) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, reason);
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())));
+        return headers;
+    }
+}
@@ -0,0 +1,218 @@
+package com.volunteer.volunteer_app_backend.service;
+
+import com.volunteer.volunteer_app_backend.dto.ReportJobResponse;
+import com.volunteer.volunteer_app_backend.model.Report;
+import com.volunteer.volunteer_app_backend.model.ReportFormat;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class ReportJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportJobService.class);
+
+    private final BirtReportService birtReportService;
+    private final ThreadPoolExecutor executor;
+    private final Path resultDir;
+    private final Duration resultTtl;
+    private final Map<String, ReportJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, ReportJob> inFlight = new ConcurrentHashMap<>();
+
+    public ReportJobService(
+            BirtReportService birtReportService,
+            @Value("${app.reports.jobs.workers:2}") int workers,
+            @Value("${app.reports.jobs.queue-capacity:20}") int queueCapacity,
+            @Value("${app.reports.jobs.dir:}") String resultDir,
+            @Value("${app.reports.jobs.result-ttl:PT1H}") Duration resultTtl,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) throws IOException {
+        this.birtReportService = birtReportService;
+        this.resultTtl = resultTtl;
+        this.resultDir = resultDir.isBlank()
+                ? Paths.get(System.getProperty("java.io.tmpdir"), "volunteer-report-jobs")
+                : Paths.get(resultDir);
+        Files.createDirectories(this.resultDir);
+
+        this.executor = new ThreadPoolExecutor(
+                workers,
+                workers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory(virtualThreads)
+        );
+    }
+
+    public ReportJobResponse submit(Report report, ReportFormat format, Map<String, Object> parameters) {
+        String key = report.getId() + ":" + format.getValue() + ":" + new TreeMap<>(parameters);
+
+        ReportJob job = inFlight.compute(key, (k, current) -> {
+            if (current != null && !current.isFinished()) {
+                return current;
+            }
+
+            ReportJob created = new ReportJob(UUID.randomUUID().toString(), report.getId(), format);
+            jobs.put(created.id, created);
+            try {
+                executor.execute(() -> run(created, report.getBirtTemplate(), parameters, k));
+            } catch (RejectedExecutionException e) {
+                jobs.remove(created.id);
+                throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Очередь отчетов переполнена");
+            }
+            return created;
+        });
+
+        return toResponse(job);
+    }
+
+    public ReportJobResponse getJob(String jobId) {
+        return toResponse(findJob(jobId));
+    }
+
+    public ReportJob getResult(String jobId) {
+        ReportJob job = findJob(jobId);
+        if (job.status != ReportJobResponse.Status.DONE) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Отчет еще не готов");
+        }
+        return job;
+    }
+
+    @Scheduled(fixedDelayString = "${app.reports.jobs.cleanup-interval:PT5M}")
+    public void evictExpired() {
+        Instant threshold = Instant.now().minus(resultTtl);
+
+        jobs.values().removeIf(job -> {
+            if (!job.isFinished() || job.finishedAt.isAfter(threshold)) {
+                return false;
+            }
+            deleteResult(job);
+            return true;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private ThreadFactory threadFactory(boolean virtualThreads) {
+        if (virtualThreads) {
+            return Thread.ofVirtual().name("report-job-", 1).factory();
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "report-job-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private void run(ReportJob job, String templatePath, Map<String, Object> parameters, String key) {
+        job.status = ReportJobResponse.Status.RUNNING;
+        Path target = resultDir.resolve(job.id + "." + job.format.getValue());
+
+        // The result is published only once the file is flushed and closed, and finishedAt is written before the
+        // status so that evictExpired never sees a finished job without it.
+        try {
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(target))) {
+                birtReportService.awaitReady();
+                birtReportService.renderReport(templatePath, job.format.getValue(), parameters, outputStream);
+            }
+            job.result = target;
+            job.finishedAt = Instant.now();
+            job.status = ReportJobResponse.Status.DONE;
+        } catch (Exception e) {
+            log.error("Report job {} failed", job.id, e);
+            deleteFile(target);
+            job.error = e.getMessage();
+            job.finishedAt = Instant.now();
+            job.status = ReportJobResponse.Status.FAILED;
+        } finally {
+            inFlight.remove(key, job);
+        }
+    }
+
+    private ReportJob findJob(String jobId) {
+        ReportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Задание не найдено");
+        }
+        return job;
+    }
+
+    private void deleteResult(ReportJob job) {
+        if (job.result != null) {
+            deleteFile(job.result);
+        }
+    }
+
+    private void deleteFile(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete report job result {}", path, e);
+        }
+    }
+
+    private ReportJobResponse toResponse(ReportJob job) {
+        return ReportJobResponse.builder()
+                .id(job.id)
+                .reportId(job.reportId)
+                .format(job.format.getValue())
+                .status(job.status)
+                .createdAt(job.createdAt)
+                .finishedAt(job.finishedAt)
+                .error(job.error)
+                .build();
+    }
+
+    public static class ReportJob {
+        private final String id;
+        @Getter
+        private final Long reportId;
+        @Getter
+        private final ReportFormat format;
+        private final Instant createdAt = Instant.now();
+        private volatile ReportJobResponse.Status status = ReportJobResponse.Status.QUEUED;
+        private volatile Instant finishedAt;
+        @Getter
+        private volatile Path result;
+        private volatile String error;
+
+        private ReportJob(String id, Long reportId, ReportFormat format) {
+            this.id = id;
+            this.reportId = reportId;
+            this.format = format;
+        }
+
+        private boolean isFinished() {
+            return status == ReportJobResponse.Status.DONE || status == ReportJobResponse.Status.FAILED;
+        }
+    }
+}
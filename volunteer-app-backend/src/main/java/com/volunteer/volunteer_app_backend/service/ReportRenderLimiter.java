@@ -0,0 +1,146 @@
+package com.volunteer.volunteer_app_backend.service;
+
+import com.volunteer.volunteer_app_backend.model.ReportFormat;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class ReportRenderLimiter {
+
+    private final Semaphore workers;
+    private final Duration queueTimeout;
+    private final Duration retryAfter;
+    private final Map<ReportFormat, FormatLimit> limits = new EnumMap<>(ReportFormat.class);
+
+    public ReportRenderLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${app.reports.render.workers:4}") int workers,
+            @Value("${app.reports.render.limits.html:4}") int htmlLimit,
+            @Value("${app.reports.render.limits.pdf:2}") int pdfLimit,
+            @Value("${app.reports.render.limits.xls:2}") int xlsLimit,
+            @Value("${app.reports.render.queue-timeout:PT10S}") Duration queueTimeout,
+            @Value("${app.reports.engine.retry-after:PT5S}") Duration retryAfter
+    ) {
+        this.workers = new Semaphore(workers, true);
+        this.queueTimeout = queueTimeout;
+        this.retryAfter = retryAfter;
+
+        limits.put(ReportFormat.HTML, new FormatLimit(ReportFormat.HTML, htmlLimit, meterRegistry));
+        limits.put(ReportFormat.PDF, new FormatLimit(ReportFormat.PDF, pdfLimit, meterRegistry));
+        limits.put(ReportFormat.XLS, new FormatLimit(ReportFormat.XLS, xlsLimit, meterRegistry));
+    }
+
+    public Permit acquire(ReportFormat format) {
+        FormatLimit limit = limits.get(format);
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + queueTimeout.toNanos();
+
+        limit.waiting.incrementAndGet();
+        try {
+            if (!limit.permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                throw reject(limit, startedAt);
+            }
+            if (!workers.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                limit.permits.release();
+                throw reject(limit, startedAt);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject(limit, startedAt);
+        } finally {
+            limit.waiting.decrementAndGet();
+        }
+
+        limit.acquired.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return new Permit(limit);
+    }
+
+    /**
+     * Waits for a permit without the interactive queue timeout, for background renders whose callers have
+     * already been queued once.
+     */
+    public Permit acquireQueued(ReportFormat format) {
+        FormatLimit limit = limits.get(format);
+        long startedAt = System.nanoTime();
+
+        limit.waiting.incrementAndGet();
+        try {
+            limit.permits.acquire();
+            try {
+                workers.acquire();
+            } catch (InterruptedException e) {
+                limit.permits.release();
+                throw e;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject(limit, startedAt);
+        } finally {
+            limit.waiting.decrementAndGet();
+        }
+
+        limit.acquired.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return new Permit(limit);
+    }
+
+    private ReportEngineUnavailableException reject(FormatLimit limit, long startedAt) {
+        limit.rejected.increment();
+        limit.timedOut.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return new ReportEngineUnavailableException("Сервер отчетов перегружен, повторите позже", retryAfter);
+    }
+
+    public class Permit implements AutoCloseable {
+        private final FormatLimit limit;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(FormatLimit limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void close() {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            workers.release();
+            limit.permits.release();
+        }
+    }
+
+    private static class FormatLimit {
+        private final int capacity;
+        private final Semaphore permits;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final Timer acquired;
+        private final Timer timedOut;
+        private final Counter rejected;
+
+        private FormatLimit(ReportFormat format, int capacity, MeterRegistry meterRegistry) {
+            this.capacity = capacity;
+            this.permits = new Semaphore(capacity, true);
+            String tag = format.getValue();
+
+            this.acquired = Timer.builder("reports.render.wait").tag("format", tag).tag("outcome", "acquired")
+                    .publishPercentileHistogram().register(meterRegistry);
+            this.timedOut = Timer.builder("reports.render.wait").tag("format", tag).tag("outcome", "timeout")
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("reports.render.rejected").tag("format", tag).register(meterRegistry);
+            Gauge.builder("reports.render.active", this, limit -> limit.capacity - limit.permits.availablePermits())
+                    .tag("format", tag).register(meterRegistry);
+            Gauge.builder("reports.render.waiting", waiting, AtomicInteger::get)
+                    .tag("format", tag).register(meterRegistry);
+        }
+    }
+}
@@ -1,20 +1,38 @@
 package com.volunteer.volunteer_app_backend.service;
 
+import com.volunteer.volunteer_app_backend.dto.ReportParameters;
 import com.volunteer.volunteer_app_backend.model.Report;
+import com.volunteer.volunteer_app_backend.model.ReportParameter;
+import com.volunteer.volunteer_app_backend.repository.ProjectRepository;
 import com.volunteer.volunteer_app_backend.repository.ReportRepository;
+import com.volunteer.volunteer_app_backend.repository.UserRepository;
+import com.volunteer.volunteer_app_backend.repository.VolunteerGroupRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
 @Service
 @RequiredArgsConstructor
 public class ReportService {
 
+    private static final int DEFAULT_RANGE_DAYS = 30;
+    private static final int MAX_RANGE_DAYS = 366;
+
     private final ReportRepository reportRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final VolunteerGroupRepository groupRepository;
 
     public List<Report> getAll() {
         return reportRepository.findAll();
@@ -23,4 +41,68 @@ public class ReportService {
         return reportRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Отчет не найден"));
     }
-}
\ No newline at end of file
+
+    public Map<String, Object> resolveParameters(Report report, ReportParameters parameters) {
+        Map<String, Object> values = new TreeMap<>();
+
+        rejectUnsupported(report, ReportParameter.DATE_FROM, parameters.getDateFrom());
+        rejectUnsupported(report, ReportParameter.DATE_TO, parameters.getDateTo());
+        rejectUnsupported(report, ReportParameter.PROJECT_ID, parameters.getProjectId());
+        rejectUnsupported(report, ReportParameter.ORGANIZER_ID, parameters.getOrganizerId());
+        rejectUnsupported(report, ReportParameter.GROUP_ID, parameters.getGroupId());
+
+        if (report.getParameters().contains(ReportParameter.DATE_FROM)
+                || report.getParameters().contains(ReportParameter.DATE_TO)) {
+            LocalDate dateTo = parameters.getDateTo() != null ? parameters.getDateTo() : LocalDate.now();
+            LocalDate dateFrom = parameters.getDateFrom() != null
+                    ? parameters.getDateFrom()
+                    : dateTo.minusDays(DEFAULT_RANGE_DAYS);
+
+            if (dateFrom.isAfter(dateTo)) {
+                throw new ResponseStatusException(BAD_REQUEST, "Дата начала позже даты окончания");
+            }
+            if (ChronoUnit.DAYS.between(dateFrom, dateTo) > MAX_RANGE_DAYS) {
+                throw new ResponseStatusException(BAD_REQUEST, "Период отчета не может превышать " + MAX_RANGE_DAYS + " дней");
+            }
+
+            values.put(ReportParameter.DATE_FROM.getValue(), Date.valueOf(dateFrom));
+            values.put(ReportParameter.DATE_TO.getValue(), Date.valueOf(dateTo));
+        }
+
+        putId(values, report, ReportParameter.PROJECT_ID, parameters.getProjectId(), projectRepository, "Проект не найден");
+        putId(values, report, ReportParameter.ORGANIZER_ID, parameters.getOrganizerId(), userRepository, "Организатор не найден");
+        putId(values, report, ReportParameter.GROUP_ID, parameters.getGroupId(), groupRepository, "Группа не найдена");
+
+        return values;
+    }
+
+    private void rejectUnsupported(Report report, ReportParameter parameter, Object value) {
+        if (value != null && !report.getParameters().contains(parameter)) {
+            throw new ResponseStatusException(BAD_REQUEST, "Отчет не поддерживает параметр " + parameter.getValue());
+        }
+    }
+
+    private void putId(
+            Map<String, Object> values,
+            Report report,
+            ReportParameter parameter,
+            Long id,
+            CrudRepository<?, Long> repository,
+            String notFoundMessage
+    ) {
+        if (!report.getParameters().contains(parameter)) {
+            return;
+        }
+        if (id == null) {
+            values.put(parameter.getValue(), 0);
+            return;
+        }
+        if (id <= 0 || id > Integer.MAX_VALUE) {
+            throw new ResponseStatusException(BAD_REQUEST, "Некорректное значение параметра " + parameter.getValue());
+        }
+        if (!repository.existsById(id)) {
+            throw new ResponseStatusException(NOT_FOUND, notFoundMessage);
+        }
+        values.put(parameter.getValue(), id.intValue());
+    }
+}
@@ -0,0 +1,194 @@
+package com.volunteer.volunteer_app_backend.service;
+
+import com.volunteer.volunteer_app_backend.dto.ReportParameters;
+import com.volunteer.volunteer_app_backend.model.Report;
+import com.volunteer.volunteer_app_backend.model.ReportFormat;
+import com.volunteer.volunteer_app_backend.repository.ReportRepository;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+public class ReportSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportSnapshotService.class);
+
+    private final ReportRepository reportRepository;
+    private final ReportService reportService;
+    private final BirtReportService birtReportService;
+    private final Path snapshotDir;
+    private final Map<String, ReportSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final List<Path> retired = new ArrayList<>();
+    private final ReentrantLock renderLock = new ReentrantLock();
+    private volatile LocalDateTime renderedDataVersion;
+    private volatile boolean rendered;
+
+    public ReportSnapshotService(
+            ReportRepository reportRepository,
+            ReportService reportService,
+            BirtReportService birtReportService,
+            @Value("${app.reports.snapshots.dir:}") String snapshotDir
+    ) throws IOException {
+        this.reportRepository = reportRepository;
+        this.reportService = reportService;
+        this.birtReportService = birtReportService;
+        this.snapshotDir = snapshotDir.isBlank()
+                ? Paths.get(System.getProperty("java.io.tmpdir"), "volunteer-report-snapshots")
+                : Paths.get(snapshotDir);
+        Files.createDirectories(this.snapshotDir);
+
+        try (Stream<Path> leftovers = Files.list(this.snapshotDir)) {
+            leftovers.forEach(this::delete);
+        }
+    }
+
+    public ReportSnapshot find(Long reportId, ReportFormat format) {
+        return snapshots.get(key(reportId, format));
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.reports.snapshots.initial-delay:PT30S}",
+            fixedDelayString = "${app.reports.snapshots.check-interval:PT1M}"
+    )
+    public void renderIfDataChanged() {
+        LocalDateTime dataVersion = reportRepository.findDataVersion();
+        if (isCurrent(dataVersion)) {
+            return;
+        }
+        renderAll(dataVersion, true);
+    }
+
+    @Scheduled(cron = "${app.reports.snapshots.cron:0 0 * * * *}")
+    public void renderAll() {
+        renderAll(reportRepository.findDataVersion(), false);
+    }
+
+    private void renderAll(LocalDateTime dataVersion, boolean onlyIfChanged) {
+        if (!birtReportService.isReady()) {
+            birtReportService.start();
+            return;
+        }
+        renderLock.lock();
+        try {
+            // A render that held the lock may already have covered this data version.
+            if (onlyIfChanged && isCurrent(dataVersion)) {
+                return;
+            }
+            renderSnapshots(dataVersion);
+        } finally {
+            renderLock.unlock();
+        }
+    }
+
+    private boolean isCurrent(LocalDateTime dataVersion) {
+        return rendered && Objects.equals(dataVersion, renderedDataVersion);
+    }
+
+    private void renderSnapshots(LocalDateTime dataVersion) {
+        retired.forEach(this::delete);
+        retired.clear();
+
+        List<Report> reports = reportRepository.findAll();
+        birtReportService.evictDocuments();
+
+        for (Report report : reports) {
+            Map<String, Object> parameters = reportService.resolveParameters(report, new ReportParameters());
+            for (ReportFormat format : ReportFormat.values()) {
+                try {
+                    render(report, format, parameters);
+                } catch (Exception e) {
+                    log.error("Could not pre-render report {} as {}", report.getId(), format.getValue(), e);
+                }
+            }
+        }
+
+        Set<String> keys = reports.stream()
+                .flatMap(report -> Arrays.stream(ReportFormat.values()).map(format -> key(report.getId(), format)))
+                .collect(Collectors.toSet());
+        snapshots.entrySet().removeIf(entry -> {
+            if (keys.contains(entry.getKey())) {
+                return false;
+            }
+            retired.add(entry.getValue().path);
+            return true;
+        });
+
+        renderedDataVersion = dataVersion;
+        rendered = true;
+    }
+
+    private void render(Report report, ReportFormat format, Map<String, Object> parameters) throws IOException {
+        Instant renderedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        long version = System.currentTimeMillis();
+        String name = "report-" + report.getId() + "-" + version + "." + format.getValue();
+        Path temp = snapshotDir.resolve(name + ".tmp");
+        Path target = snapshotDir.resolve(name);
+
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(temp))) {
+            birtReportService.renderReport(report.getBirtTemplate(), format.getValue(), parameters, outputStream);
+        } catch (RuntimeException | IOException e) {
+            delete(temp);
+            throw e;
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+
+        ReportSnapshot snapshot = new ReportSnapshot(
+                target,
+                "\"" + report.getId() + "-" + format.getValue() + "-" + version + "\"",
+                renderedAt
+        );
+        ReportSnapshot previous = snapshots.put(key(report.getId(), format), snapshot);
+        if (previous != null) {
+            retired.add(previous.path);
+        }
+    }
+
+    private String key(Long reportId, ReportFormat format) {
+        return reportId + ":" + format.getValue();
+    }
+
+    private void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete report snapshot {}", path, e);
+        }
+    }
+
+    @Getter
+    public static class ReportSnapshot {
+        private final Path path;
+        private final String etag;
+        private final Instant lastModified;
+
+        private ReportSnapshot(Path path, String etag, Instant lastModified) {
+            this.path = path;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.volunteer.volunteer_app_backend.service;
+
+import com.volunteer.volunteer_app_backend.dto.CursorPageResponse;
+import com.volunteer.volunteer_app_backend.dto.SearchHitResponse;
+import com.volunteer.volunteer_app_backend.repository.SearchHitRow;
+import com.volunteer.volunteer_app_backend.repository.SearchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    // ts_headline marks matches with these control characters; the snippet is escaped before they become tags.
+    private static final String MATCH_START = "\u0002";
+    private static final String MATCH_END = "\u0003";
+
+    private final SearchRepository searchRepository;
+
+    public CursorPageResponse<SearchHitResponse> search(Long userId, String query, String cursor, Integer limit) {
+        String q = query == null ? "" : query.trim();
+        if (q.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "q is required");
+        }
+        if (q.length() > MAX_QUERY_LENGTH) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "q must be at most " + MAX_QUERY_LENGTH + " characters"
+            );
+        }
+
+        int pageSize = resolveLimit(limit);
+        int offset = resolveOffset(cursor);
+
+        List<SearchHitRow> rows = searchRepository.search(q, userId, pageSize + 1, offset);
+        boolean hasMore = rows.size() > pageSize;
+
+        return CursorPageResponse.<SearchHitResponse>builder()
+                .items(rows.stream().limit(pageSize).map(this::toResponse).toList())
+                .nextCursor(hasMore ? String.valueOf(offset + pageSize) : null)
+                .build();
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "limit must be between 1 and " + MAX_PAGE_SIZE
+            );
+        }
+        return limit;
+    }
+
+    private int resolveOffset(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            int offset = Integer.parseInt(cursor);
+            if (offset < 0) {
+                throw new NumberFormatException();
+            }
+            return offset;
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    private SearchHitResponse toResponse(SearchHitRow row) {
+        return SearchHitResponse.builder()
+                .type(row.getType())
+                .taskId(row.getTaskId())
+                .commentId(row.getCommentId())
+                .projectId(row.getProjectId())
+                .title(row.getTitle())
+                .snippet(highlight(row.getSnippet()))
+                .rank(row.getRank() == null ? 0 : row.getRank())
+                .build();
+    }
+
+    private String highlight(String snippet) {
+        if (snippet == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(snippet)
+                .replace(MATCH_START, "<b>")
+                .replace(MATCH_END, "</b>");
+    }
+}
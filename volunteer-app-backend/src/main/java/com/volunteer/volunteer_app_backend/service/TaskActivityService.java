@@ -0,0 +1,55 @@
+package com.volunteer.volunteer_app_backend.service;
+
+import com.volunteer.volunteer_app_backend.repository.TaskActivityDailyRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class TaskActivityService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskActivityService.class);
+    private static final long WATERMARK_OVERLAP_MINUTES = 1;
+
+    private final TaskActivityDailyRepository activityRepository;
+
+    @Transactional
+    @Scheduled(
+            initialDelayString = "${app.reports.activity.initial-delay:PT30S}",
+            fixedDelayString = "${app.reports.activity.refresh-interval:PT5M}"
+    )
+    public void refresh() {
+        if (!activityRepository.tryLock()) {
+            return;
+        }
+
+        LocalDateTime refreshedAt = LocalDateTime.now();
+        LocalDateTime watermark = activityRepository.findLastRefreshedAt();
+
+        if (watermark == null) {
+            int rows = activityRepository.rebuild(refreshedAt);
+            log.info("Task activity rollup built with {} rows", rows);
+            return;
+        }
+
+        int rows = activityRepository.refreshTouchedSince(watermark.minusMinutes(WATERMARK_OVERLAP_MINUTES), refreshedAt);
+        log.debug("Task activity rollup refreshed with {} rows", rows);
+    }
+
+    @Transactional
+    @Scheduled(cron = "${app.reports.activity.rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        if (!activityRepository.tryLock()) {
+            return;
+        }
+
+        int rows = activityRepository.rebuild(LocalDateTime.now());
+        log.info("Task activity rollup rebuilt with {} rows", rows);
+    }
+}
@@ -0,0 +1,151 @@
+package com.volunteer.volunteer_app_backend.service;
+
+import com.volunteer.volunteer_app_backend.dto.TaskChangesResponse;
+import com.volunteer.volunteer_app_backend.model.Task;
+import com.volunteer.volunteer_app_backend.model.TaskDeletion;
+import com.volunteer.volunteer_app_backend.repository.ProjectRepository;
+import com.volunteer.volunteer_app_backend.repository.TaskDeletionRepository;
+import com.volunteer.volunteer_app_backend.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Delta sync for tasks. {@code updated_at} and {@code deleted_at} are stamped by the database clock when a row is
+ * written, and only rows older than the settle window are returned, so a write whose transaction has not
+ * committed yet cannot be skipped by a token that has already moved past it. Tombstones are paged by id and a
+ * page stops below the first tombstone still inside the window. A write transaction that stays open for longer
+ * than the window after stamping its rows can still be missed, so the window has to exceed the longest one.
+ */
+@Service
+public class TaskChangeService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskChangeService.class);
+
+    private final TaskRepository taskRepository;
+    private final TaskDeletionRepository taskDeletionRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskService taskService;
+    private final Duration settleWindow;
+    private final Duration tombstoneRetention;
+
+    public TaskChangeService(
+            TaskRepository taskRepository,
+            TaskDeletionRepository taskDeletionRepository,
+            ProjectRepository projectRepository,
+            TaskService taskService,
+            @Value("${app.tasks.changes.settle-window:PT5S}") Duration settleWindow,
+            @Value("${app.tasks.changes.tombstone-retention:P30D}") Duration tombstoneRetention
+    ) {
+        this.taskRepository = taskRepository;
+        this.taskDeletionRepository = taskDeletionRepository;
+        this.projectRepository = projectRepository;
+        this.taskService = taskService;
+        this.settleWindow = settleWindow;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    public TaskChangesResponse getChanges(String since, Long projectId, Integer limit) {
+        if (projectId != null && !projectRepository.existsById(projectId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found: " + projectId);
+        }
+
+        int pageSize = taskService.resolveLimit(limit);
+        LocalDateTime now = taskRepository.findDatabaseTime();
+        LocalDateTime cutoff = now.minus(settleWindow);
+        TaskChangeToken after = TaskChangeToken.decode(since);
+
+        if (after != null && after.getTombstonesUntil().isBefore(now.minus(tombstoneRetention))) {
+            throw new ResponseStatusException(HttpStatus.GONE, "Change token expired, full resync required");
+        }
+
+        List<Task> tasks = taskRepository.findChangedSince(
+                projectId,
+                after == null ? null : after.getUpdatedAt(),
+                after == null ? null : after.getTaskId(),
+                cutoff,
+                PageRequest.of(0, pageSize + 1)
+        );
+        boolean moreTasks = tasks.size() > pageSize;
+        List<Task> changed = moreTasks ? tasks.subList(0, pageSize) : tasks;
+
+        // A fresh sync starts from the current state, so earlier tombstones are irrelevant to it. Ids are taken
+        // before their transactions commit, so a page must not move past one that has not settled yet. The last
+        // id is read first so that every tombstone up to it is covered by the settle check below.
+        long lastDeletionId = taskDeletionRepository.findLastId();
+        Long firstUnsettledId = taskDeletionRepository.findFirstUnsettledId(
+                after == null ? 0L : after.getDeletionId(), cutoff);
+        List<TaskDeletion> deletions = after == null
+                ? List.of()
+                : taskDeletionRepository.findSince(
+                        after.getDeletionId(),
+                        firstUnsettledId == null ? Long.MAX_VALUE : firstUnsettledId,
+                        projectId,
+                        PageRequest.of(0, pageSize + 1)
+                );
+        boolean moreDeletions = deletions.size() > pageSize;
+        List<TaskDeletion> deleted = moreDeletions ? deletions.subList(0, pageSize) : deletions;
+
+        Task lastTask = changed.isEmpty() ? null : changed.get(changed.size() - 1);
+        TaskDeletion lastDeletion = deleted.isEmpty() ? null : deleted.get(deleted.size() - 1);
+
+        long deletionId;
+        if (moreDeletions) {
+            deletionId = lastDeletion.getId();
+        } else {
+            // The page reached the settle boundary, so the token moves up to it even when none of the tombstones
+            // in between belonged to this sync; otherwise other projects' old tombstones would pin tombstonesUntil.
+            deletionId = firstUnsettledId != null ? firstUnsettledId - 1 : lastDeletionId;
+            if (lastDeletion != null) {
+                deletionId = Math.max(deletionId, lastDeletion.getId());
+            }
+            if (after != null) {
+                deletionId = Math.max(deletionId, after.getDeletionId());
+            }
+        }
+
+        // Tombstones the token has not reached yet are lost once pruning passes the oldest of them.
+        LocalDateTime pendingSince = taskDeletionRepository.findEarliestDeletedAtAfter(deletionId);
+        LocalDateTime tombstonesUntil = pendingSince != null && pendingSince.isBefore(cutoff) ? pendingSince : cutoff;
+
+        TaskChangeToken token = new TaskChangeToken(
+                lastTask != null ? lastTask.getUpdatedAt() : after == null ? null : after.getUpdatedAt(),
+                lastTask != null ? lastTask.getId() : after == null ? null : after.getTaskId(),
+                deletionId,
+                tombstonesUntil
+        );
+
+        return TaskChangesResponse.builder()
+                .changed(changed.stream().map(taskService::toResponse).toList())
+                .deleted(deleted.stream()
+                        .map(deletion -> TaskChangesResponse.Tombstone.builder()
+                                .id(deletion.getTaskId())
+                                .projectId(deletion.getProjectId())
+                                .deletedAt(deletion.getDeletedAt())
+                                .build())
+                        .toList())
+                .token(token.encode())
+                .hasMore(moreTasks || moreDeletions)
+                .build();
+    }
+
+    @Transactional
+    @Scheduled(cron = "${app.tasks.changes.prune-cron:0 15 4 * * *}")
+    public void pruneTombstones() {
+        int pruned = taskDeletionRepository.deleteOlderThan(
+                taskRepository.findDatabaseTime().minus(tombstoneRetention));
+        if (pruned > 0) {
+            log.info("Pruned {} task tombstones", pruned);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.volunteer.volunteer_app_backend.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Sync position for {@code /api/tasks/changes}: the last (updatedAt, id) of a changed task, the last tombstone
+ * id and the time up to which tombstones have been delivered, which decides whether pruning has made it stale.
+ */
+@Getter
+@AllArgsConstructor
+class TaskChangeToken {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime updatedAt;
+    private final Long taskId;
+    private final long deletionId;
+    private final LocalDateTime tombstonesUntil;
+
+    String encode() {
+        String raw = (updatedAt == null ? "" : updatedAt.toString()) + SEPARATOR
+                + (taskId == null ? "" : taskId) + SEPARATOR
+                + deletionId + SEPARATOR
+                + tombstonesUntil;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static TaskChangeToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            return new TaskChangeToken(
+                    parts[0].isEmpty() ? null : LocalDateTime.parse(parts[0]),
+                    parts[1].isEmpty() ? null : Long.valueOf(parts[1]),
+                    Long.parseLong(parts[2]),
+                    LocalDateTime.parse(parts[3])
+            );
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid change token");
+        }
+    }
+}
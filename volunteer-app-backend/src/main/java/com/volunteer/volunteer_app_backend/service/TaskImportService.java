@@ -0,0 +1,333 @@
+package com.volunteer.volunteer_app_backend.service;
+
+import com.volunteer.volunteer_app_backend.dto.TaskBatchResponse;
+import com.volunteer.volunteer_app_backend.model.Project;
+import com.volunteer.volunteer_app_backend.model.Task;
+import com.volunteer.volunteer_app_backend.model.TaskAssigneeType;
+import com.volunteer.volunteer_app_backend.model.TaskPriority;
+import com.volunteer.volunteer_app_backend.model.TaskStatus;
+import com.volunteer.volunteer_app_backend.model.User;
+import com.volunteer.volunteer_app_backend.model.VolunteerGroup;
+import com.volunteer.volunteer_app_backend.repository.ProjectRepository;
+import com.volunteer.volunteer_app_backend.repository.TaskRepository;
+import com.volunteer.volunteer_app_backend.repository.UserRepository;
+import com.volunteer.volunteer_app_backend.repository.VolunteerGroupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class TaskImportService {
+
+    private static final int MAX_BATCH_SIZE = 5000;
+    private static final int MAX_VARCHAR_LENGTH = 255;
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final VolunteerGroupRepository volunteerGroupRepository;
+    private final VolunteerOccupancyService occupancyService;
+
+    public TaskBatchResponse importTasks(List<Task> tasks) {
+        return importTasks(tasks, Map.of());
+    }
+
+    public TaskBatchResponse importCsv(String csv) {
+        Map<Integer, String> parseErrors = new HashMap<>();
+        List<Task> tasks = parseCsv(csv, parseErrors);
+        return importTasks(tasks, parseErrors);
+    }
+
+    /**
+     * Rows listed in {@code parseErrors} (by index) could not be read and are reported with that error instead
+     * of being validated.
+     */
+    private TaskBatchResponse importTasks(List<Task> tasks, Map<Integer, String> parseErrors) {
+        if (tasks == null || tasks.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "tasks are required");
+        }
+        if (tasks.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_BATCH_SIZE + " tasks per batch"
+            );
+        }
+
+        Map<Long, Project> projects = loadById(
+                tasks.stream().map(Task::getProject),
+                ids -> projectRepository.findAllById(ids),
+                Project::getId
+        );
+        Map<Long, User> users = loadById(
+                tasks.stream().map(Task::getAssigneeUser),
+                ids -> userRepository.findAllById(ids),
+                User::getId
+        );
+        Map<Long, VolunteerGroup> groups = loadById(
+                tasks.stream().map(Task::getAssigneeGroup),
+                ids -> volunteerGroupRepository.findAllById(ids),
+                VolunteerGroup::getId
+        );
+
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskBatchResponse.RowResult> results = new ArrayList<>();
+        List<Task> valid = new ArrayList<>();
+        List<Integer> validRows = new ArrayList<>();
+
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            String error = parseErrors.containsKey(i)
+                    ? parseErrors.get(i)
+                    : prepare(task, projects, users, groups, now);
+
+            if (error != null) {
+                results.add(TaskBatchResponse.RowResult.builder().row(i + 1).error(error).build());
+            } else {
+                valid.add(task);
+                validRows.add(i + 1);
+            }
+        }
+
+        List<Task> saved = taskRepository.saveAll(valid);
+        occupancyService.refresh(saved.stream()
+                .map(Task::getAssigneeUser)
+                .filter(Objects::nonNull)
+                .map(User::getId)
+                .toList());
+        for (int i = 0; i < saved.size(); i++) {
+            results.add(TaskBatchResponse.RowResult.builder()
+                    .row(validRows.get(i))
+                    .id(saved.get(i).getId())
+                    .build());
+        }
+
+        results.sort((a, b) -> Integer.compare(a.getRow(), b.getRow()));
+
+        return TaskBatchResponse.builder()
+                .created(saved.size())
+                .failed(tasks.size() - saved.size())
+                .rows(results)
+                .build();
+    }
+
+    private String prepare(
+            Task task,
+            Map<Long, Project> projects,
+            Map<Long, User> users,
+            Map<Long, VolunteerGroup> groups,
+            LocalDateTime now
+    ) {
+        if (task.getTitle() == null || task.getTitle().trim().isEmpty()) {
+            return "title is required";
+        }
+        if (task.getTitle().trim().length() > MAX_VARCHAR_LENGTH) {
+            return "title must be at most " + MAX_VARCHAR_LENGTH + " characters";
+        }
+        if (task.getTaskType() != null && task.getTaskType().length() > MAX_VARCHAR_LENGTH) {
+            return "taskType must be at most " + MAX_VARCHAR_LENGTH + " characters";
+        }
+        if (task.getProject() == null || task.getProject().getId() == null) {
+            return "project.id is required";
+        }
+
+        Project project = projects.get(task.getProject().getId());
+        if (project == null) {
+            return "Project not found: " + task.getProject().getId();
+        }
+        if (project.isDeleting()) {
+            return "Project is being deleted: " + project.getId();
+        }
+
+        TaskAssigneeType type = task.getAssigneeType();
+        if (type == TaskAssigneeType.USER) {
+            if (task.getAssigneeUser() == null || task.getAssigneeUser().getId() == null) {
+                return "assigneeUser.id is required for USER";
+            }
+            User user = users.get(task.getAssigneeUser().getId());
+            if (user == null) {
+                return "User not found: " + task.getAssigneeUser().getId();
+            }
+            task.setAssigneeUser(user);
+            task.setAssigneeGroup(null);
+        } else if (type == TaskAssigneeType.GROUP) {
+            if (task.getAssigneeGroup() == null || task.getAssigneeGroup().getId() == null) {
+                return "assigneeGroup.id is required for GROUP";
+            }
+            VolunteerGroup group = groups.get(task.getAssigneeGroup().getId());
+            if (group == null) {
+                return "Group not found: " + task.getAssigneeGroup().getId();
+            }
+            task.setAssigneeGroup(group);
+            task.setAssigneeUser(null);
+        } else {
+            task.setAssigneeType(null);
+            task.setAssigneeUser(null);
+            task.setAssigneeGroup(null);
+        }
+
+        task.setId(null);
+        task.setTitle(task.getTitle().trim());
+        task.setProject(project);
+        task.setCreatedAt(now);
+        return null;
+    }
+
+    private <T> Map<Long, T> loadById(
+            Stream<T> refs,
+            Function<Set<Long>, List<T>> loader,
+            Function<T, Long> idGetter
+    ) {
+        Set<Long> ids = refs
+                .filter(Objects::nonNull)
+                .map(idGetter)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        return loader.apply(ids).stream()
+                .collect(Collectors.toMap(idGetter, Function.identity()));
+    }
+
+    private List<Task> parseCsv(String csv, Map<Integer, String> parseErrors) {
+        if (csv == null || csv.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV body is empty");
+        }
+
+        List<CsvRecord> records = readRecords(csv);
+        List<String> header = records.get(0).values().stream()
+                .map(name -> name.trim().toLowerCase(Locale.ROOT))
+                .toList();
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 1; i < records.size(); i++) {
+            CsvRecord record = records.get(i);
+            Map<String, String> values = new HashMap<>();
+            for (int c = 0; c < header.size() && c < record.values().size(); c++) {
+                String value = record.values().get(c).trim();
+                if (!value.isEmpty()) {
+                    values.put(header.get(c), value);
+                }
+            }
+            try {
+                tasks.add(toTask(values));
+            } catch (IllegalArgumentException e) {
+                parseErrors.put(tasks.size(), "Invalid CSV value on line " + record.line() + ": " + e.getMessage());
+                tasks.add(new Task());
+            }
+        }
+        return tasks;
+    }
+
+    private Task toTask(Map<String, String> values) {
+        Task task = new Task();
+        task.setTitle(values.get("title"));
+        task.setDescription(values.get("description"));
+        task.setTaskType(values.get("tasktype"));
+
+        if (values.containsKey("priority")) {
+            task.setPriority(TaskPriority.valueOf(values.get("priority").toUpperCase(Locale.ROOT)));
+        }
+        if (values.containsKey("status")) {
+            task.setStatus(TaskStatus.valueOf(values.get("status").toUpperCase(Locale.ROOT)));
+        }
+        if (values.containsKey("projectid")) {
+            Project project = new Project();
+            project.setId(Long.valueOf(values.get("projectid")));
+            task.setProject(project);
+        }
+        if (values.containsKey("assigneetype")) {
+            task.setAssigneeType(TaskAssigneeType.valueOf(values.get("assigneetype").toUpperCase(Locale.ROOT)));
+        }
+        if (values.containsKey("assigneeuserid")) {
+            User user = new User();
+            user.setId(Long.valueOf(values.get("assigneeuserid")));
+            task.setAssigneeUser(user);
+        }
+        if (values.containsKey("assigneegroupid")) {
+            VolunteerGroup group = new VolunteerGroup();
+            group.setId(Long.valueOf(values.get("assigneegroupid")));
+            task.setAssigneeGroup(group);
+        }
+        return task;
+    }
+
+    /**
+     * Splits the CSV into records, skipping blank ones; each record keeps the physical line it starts on, since
+     * quoted fields may span lines.
+     */
+    private List<CsvRecord> readRecords(String csv) {
+        int headerEnd = csv.indexOf('\n');
+        String headerLine = headerEnd < 0 ? csv : csv.substring(0, headerEnd);
+        char delimiter = headerLine.indexOf(';') >= 0 && headerLine.indexOf(',') < 0 ? ';' : ',';
+
+        List<CsvRecord> records = new ArrayList<>();
+        List<String> record = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int line = 1;
+        int recordLine = 1;
+
+        for (int i = 0; i < csv.length(); i++) {
+            char ch = csv.charAt(i);
+
+            if (quoted) {
+                if (ch == '"' && i + 1 < csv.length() && csv.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (ch == '"') {
+                    quoted = false;
+                } else {
+                    if (ch == '\n') {
+                        line++;
+                    }
+                    field.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == delimiter) {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n') {
+                record.add(field.toString());
+                field.setLength(0);
+                addRecord(records, record, recordLine);
+                record = new ArrayList<>();
+                line++;
+                recordLine = line;
+            } else if (ch != '\r') {
+                field.append(ch);
+            }
+        }
+
+        record.add(field.toString());
+        addRecord(records, record, recordLine);
+        return records;
+    }
+
+    private void addRecord(List<CsvRecord> records, List<String> record, int line) {
+        boolean blank = record.stream().allMatch(String::isBlank);
+        if (!blank) {
+            records.add(new CsvRecord(line, record));
+        }
+    }
+
+    private record CsvRecord(int line, List<String> values) {
+    }
+}
@@ -1,13 +1,20 @@
 package com.volunteer.volunteer_app_backend.service;
 
+import com.volunteer.volunteer_app_backend.dto.CursorPageResponse;
+import com.volunteer.volunteer_app_backend.dto.TaskFilter;
+import com.volunteer.volunteer_app_backend.dto.TaskResponse;
+import com.volunteer.volunteer_app_backend.dto.UserSummaryResponse;
 import com.volunteer.volunteer_app_backend.model.Project;
 import com.volunteer.volunteer_app_backend.model.Task;
 import com.volunteer.volunteer_app_backend.repository.ProjectRepository;
 import com.volunteer.volunteer_app_backend.repository.TaskRepository;
 import com.volunteer.volunteer_app_backend.repository.TaskCommentRepository;
+import com.volunteer.volunteer_app_backend.repository.TaskDeletionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 import com.volunteer.volunteer_app_backend.model.TaskAssigneeType;
 import com.volunteer.volunteer_app_backend.model.User;
@@ -21,17 +28,23 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TaskService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final TaskRepository taskRepository;
     private final TaskCommentRepository taskCommentRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final VolunteerGroupRepository volunteerGroupRepository;
+    private final VolunteerOccupancyService occupancyService;
+    private final EntityChangePublisher changePublisher;
+    private final TaskDeletionRepository taskDeletionRepository;
 
-    public List<Task> getAll() {
-        return taskRepository.findAll();
+    public CursorPageResponse<TaskResponse> getAll(TaskFilter filter, String cursor, Integer limit) {
+        return findPage(filter, null, null, cursor, limit);
     }
 
-    public List<Task> getByProjectId(Long projectId) {
+    public CursorPageResponse<TaskResponse> getByProjectId(Long projectId, TaskFilter filter, String cursor, Integer limit) {
         if (!projectRepository.existsById(projectId)) {
             throw new ResponseStatusException(
                     HttpStatus.NOT_FOUND,
@@ -39,10 +52,11 @@ public class TaskService {
             );
         }
 
-        return taskRepository.findByProjectId(projectId);
+        filter.setProjectId(projectId);
+        return findPage(filter, null, null, cursor, limit);
     }
 
-    public List<Task> getByOrganizerId(Long organizerId) {
+    public CursorPageResponse<TaskResponse> getByOrganizerId(Long organizerId, TaskFilter filter, String cursor, Integer limit) {
         if (!userRepository.existsById(organizerId)) {
             throw new ResponseStatusException(
                     HttpStatus.NOT_FOUND,
@@ -50,10 +64,10 @@ public class TaskService {
             );
         }
 
-        return taskRepository.findByProjectOrganizerId(organizerId);
+        return findPage(filter, organizerId, null, cursor, limit);
     }
 
-    public List<Task> getByParticipantId(Long userId) {
+    public CursorPageResponse<TaskResponse> getByParticipantId(Long userId, TaskFilter filter, String cursor, Integer limit) {
         if (!userRepository.existsById(userId)) {
             throw new ResponseStatusException(
                     HttpStatus.NOT_FOUND,
@@ -61,15 +75,25 @@ public class TaskService {
             );
         }
 
-        return taskRepository.findByProjectParticipantId(userId);
+        return findPage(filter, null, userId, cursor, limit);
     }
 
-    public Task getById(Long id) {
-        return taskRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found"));
+    public TaskResponse getById(Long id) {
+        return toResponse(findTask(id));
+    }
+
+    public String getEtag(Long id) {
+        return ConditionalUpdates.etag(taskRepository.findVersionStampById(id));
+    }
+
+    public String getProjectTasksEtag(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            return null;
+        }
+        return taskRepository.findVersionStampByProjectId(projectId).toEtag();
     }
 
-    public Task create(Task task) {
+    public TaskResponse create(Task task) {
         if (task.getTitle() == null || task.getTitle().trim().isEmpty()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "title is required");
         }
@@ -81,15 +105,23 @@ public class TaskService {
         attachProject(task);
 
         task.setCreatedAt(LocalDateTime.now());
-        task.setUpdatedAt(LocalDateTime.now());
 
         applyAssignee(task);
 
-        return taskRepository.save(task);
+        Task saved = taskRepository.saveAndFlush(task);
+        saved.setUpdatedAt(taskRepository.findUpdatedAtById(saved.getId()));
+        occupancyService.refresh(assigneeUserId(saved));
+        changePublisher.publish(EntityChange.Type.TASK, saved.getId(), saved.getVersion());
+        return toResponse(saved);
     }
 
-    public Task update(Long id, Task updated) {
-        Task existing = getById(id);
+    @Transactional
+    public TaskResponse update(Long id, Task updated, String ifMatch) {
+        Long expectedVersion = ConditionalUpdates.expectedVersion(
+                ifMatch, () -> taskRepository.findVersionStampById(id), "Task");
+        Task existing = findTask(id);
+        ConditionalUpdates.checkVersion(existing.getVersion(), expectedVersion, "Task");
+        Long previousAssigneeId = assigneeUserId(existing);
 
         if (updated.getTitle() != null) {
             existing.setTitle(updated.getTitle().trim());
@@ -108,12 +140,15 @@ public class TaskService {
         }
 
         if (updated.getProject() != null && updated.getProject().getId() != null) {
+            Long previousProjectId = existing.getProject().getId();
             existing.setProject(updated.getProject());
             attachProject(existing);
+            if (!previousProjectId.equals(existing.getProject().getId())) {
+                // Clients syncing the old project only see the task leave through a tombstone.
+                taskDeletionRepository.recordMove(id, previousProjectId);
+            }
         }
 
-        existing.setUpdatedAt(LocalDateTime.now());
-
         if (updated.getAssigneeType() != null) {
             existing.setAssigneeType(updated.getAssigneeType());
             existing.setAssigneeUser(updated.getAssigneeUser());
@@ -122,21 +157,89 @@ public class TaskService {
             applyAssignee(existing);
         }
 
-        return taskRepository.save(existing);
+        Task saved = ConditionalUpdates.save(() -> taskRepository.saveAndFlush(existing), expectedVersion, "Task");
+        if (updated.getStatus() != null || updated.getAssigneeType() != null) {
+            occupancyService.refresh(previousAssigneeId, assigneeUserId(saved));
+        }
+        changePublisher.publish(EntityChange.Type.TASK, saved.getId(), saved.getVersion());
+        return toResponse(saved);
     }
 
+    @Transactional
     public void delete(Long id) {
-        if (!taskRepository.existsById(id)) {
+        Long assigneeId = taskRepository.findAssigneeUserIdById(id).orElse(null);
+
+        taskCommentRepository.deleteAllByTaskId(id);
+        taskDeletionRepository.recordTask(id);
+        if (taskRepository.deleteTaskById(id) == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found");
         }
-        taskCommentRepository.deleteByTaskId(id);
-        taskRepository.deleteById(id);
+        occupancyService.refresh(assigneeId);
+        changePublisher.publish(EntityChange.Type.TASK, id);
+    }
+
+    private CursorPageResponse<TaskResponse> findPage(
+            TaskFilter filter,
+            Long organizerId,
+            Long participantId,
+            String cursor,
+            Integer limit
+    ) {
+        int pageSize = resolveLimit(limit);
+        TaskCursor after = TaskCursor.decode(cursor);
+
+        List<Task> rows = taskRepository.findPage(
+                filter.getStatus(),
+                filter.getPriority(),
+                filter.getTaskType(),
+                filter.getProjectId(),
+                organizerId,
+                filter.getAssigneeUserId(),
+                filter.getAssigneeGroupId(),
+                participantId,
+                after == null ? null : after.getUpdatedAt(),
+                after == null ? null : after.getId(),
+                PageRequest.of(0, pageSize + 1)
+        );
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Task> items = hasMore ? rows.subList(0, pageSize) : rows;
+
+        return CursorPageResponse.<TaskResponse>builder()
+                .items(items.stream().map(this::toResponse).toList())
+                .nextCursor(hasMore ? TaskCursor.encode(items.get(items.size() - 1)) : null)
+                .build();
+    }
+
+    int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "limit must be between 1 and " + MAX_PAGE_SIZE
+            );
+        }
+        return limit;
+    }
+
+    private Long assigneeUserId(Task task) {
+        return task.getAssigneeUser() == null ? null : task.getAssigneeUser().getId();
+    }
+
+    private Task findTask(Long id) {
+        return taskRepository.findWithAssociationsById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found"));
     }
 
     private void attachProject(Task task) {
         Long projectId = task.getProject().getId();
         Project managed = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Project not found: " + projectId));
+        if (managed.isDeleting()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Project is being deleted: " + projectId);
+        }
         task.setProject(managed);
     }
 
@@ -178,4 +281,30 @@ public class TaskService {
             default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown assigneeType");
         }
     }
+
+    TaskResponse toResponse(Task task) {
+        Project project = task.getProject();
+        VolunteerGroup group = task.getAssigneeGroup();
+
+        return TaskResponse.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .taskType(task.getTaskType())
+                .priority(task.getPriority())
+                .status(task.getStatus())
+                .project(TaskResponse.ProjectSummary.builder()
+                        .id(project.getId())
+                        .title(project.getTitle())
+                        .build())
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .assigneeType(task.getAssigneeType())
+                .assigneeUser(UserSummaryResponse.of(task.getAssigneeUser()))
+                .assigneeGroup(group == null ? null : TaskResponse.GroupSummary.builder()
+                        .id(group.getId())
+                        .name(group.getName())
+                        .build())
+                .build();
+    }
 }
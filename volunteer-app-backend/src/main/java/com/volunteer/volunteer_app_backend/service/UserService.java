@@ -4,6 +4,7 @@ import com.volunteer.volunteer_app_backend.model.User;
 import com.volunteer.volunteer_app_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
@@ -13,6 +14,7 @@ import org.springframework.http.HttpStatus;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final EntityChangePublisher changePublisher;
 
     public List<User> getAll() {
         return userRepository.findAll();
@@ -26,6 +28,14 @@ public class UserService {
                 ));
     }
 
+    public String getEtag(Long id) {
+        return ConditionalUpdates.etag(userRepository.findVersionStampById(id));
+    }
+
+    public String getAllEtag() {
+        return userRepository.findVersionStamp().toEtag();
+    }
+
     public User save(User user) {
         if (user.getEmail() == null
                 || user.getName() == null
@@ -47,7 +57,9 @@ public class UserService {
         }
 
         user.setCreatedAt(java.time.LocalDateTime.now());
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        changePublisher.publish(EntityChange.Type.USER, saved.getId(), saved.getVersion());
+        return saved;
     }
 
     public void delete(Long id) {
@@ -58,10 +70,15 @@ public class UserService {
             );
         }
         userRepository.deleteById(id);
+        changePublisher.publish(EntityChange.Type.USER, id);
     }
 
-    public User update(Long id, User updated) {
+    @Transactional
+    public User update(Long id, User updated, String ifMatch) {
+        Long expectedVersion = ConditionalUpdates.expectedVersion(
+                ifMatch, () -> userRepository.findVersionStampById(id), "User");
         User existing = getById(id);
+        ConditionalUpdates.checkVersion(existing.getVersion(), expectedVersion, "User");
 
         if (updated.getEmail() != null) {
             existing.setEmail(updated.getEmail());
@@ -91,6 +108,8 @@ public class UserService {
             existing.setRole(updated.getRole());
         }
 
-        return userRepository.save(existing);
+        User saved = ConditionalUpdates.save(() -> userRepository.saveAndFlush(existing), expectedVersion, "User");
+        changePublisher.publish(EntityChange.Type.USER, id, saved.getVersion());
+        return saved;
     }
 }
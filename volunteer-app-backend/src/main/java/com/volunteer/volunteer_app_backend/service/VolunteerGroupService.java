@@ -1,5 +1,7 @@
 package com.volunteer.volunteer_app_backend.service;
 
+import com.volunteer.volunteer_app_backend.dto.UserSummaryResponse;
+import com.volunteer.volunteer_app_backend.dto.VolunteerGroupResponse;
 import com.volunteer.volunteer_app_backend.model.User;
 import com.volunteer.volunteer_app_backend.model.VolunteerGroup;
 import com.volunteer.volunteer_app_backend.repository.UserRepository;
@@ -7,6 +9,7 @@ import com.volunteer.volunteer_app_backend.repository.VolunteerGroupRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
@@ -17,20 +20,29 @@ public class VolunteerGroupService {
 
     private final VolunteerGroupRepository groupRepository;
     private final UserRepository userRepository;
+    private final EntityChangePublisher changePublisher;
 
-    public List<VolunteerGroup> getAll() {
-        return groupRepository.findAll();
+    public List<VolunteerGroupResponse> getAll() {
+        return toResponses(groupRepository.findAll());
     }
 
-    public VolunteerGroup getById(Long id) {
-        return groupRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(
-                        HttpStatus.NOT_FOUND,
-                        "Group not found"
-                ));
+    public VolunteerGroupResponse getById(Long id) {
+        return toResponse(findGroup(id));
+    }
+
+    public String getEtag(Long id) {
+        return ConditionalUpdates.etag(groupRepository.findVersionStampById(id));
+    }
+
+    public String getAllEtag() {
+        return groupRepository.findVersionStamp().toEtag();
+    }
+
+    public String getByOrganizerEtag(Long organizerId) {
+        return groupRepository.findVersionStampByOrganizerId(organizerId).toEtag();
     }
 
-    public VolunteerGroup create(VolunteerGroup group) {
+    public VolunteerGroupResponse create(VolunteerGroup group) {
         if (group.getName() == null || group.getName().trim().isEmpty()) {
             throw new ResponseStatusException(
                     HttpStatus.BAD_REQUEST,
@@ -55,11 +67,17 @@ public class VolunteerGroupService {
         attachOrganizer(group);
         group.setName(group.getName().trim());
 
-        return groupRepository.save(group);
+        VolunteerGroup saved = groupRepository.save(group);
+        changePublisher.publish(EntityChange.Type.GROUP, saved.getId(), saved.getVersion());
+        return toResponse(saved);
     }
 
-    public VolunteerGroup update(Long id, VolunteerGroup updated) {
-        VolunteerGroup existing = getById(id);
+    @Transactional
+    public VolunteerGroupResponse update(Long id, VolunteerGroup updated, String ifMatch) {
+        Long expectedVersion = ConditionalUpdates.expectedVersion(
+                ifMatch, () -> groupRepository.findVersionStampById(id), "Group");
+        VolunteerGroup existing = findGroup(id);
+        ConditionalUpdates.checkVersion(existing.getVersion(), expectedVersion, "Group");
 
         if (updated.getName() != null) {
             existing.setName(updated.getName().trim());
@@ -76,7 +94,9 @@ public class VolunteerGroupService {
             existing.setOrganizer(updated.getOrganizer());
         }
 
-        return groupRepository.save(existing);
+        VolunteerGroup saved = ConditionalUpdates.save(() -> groupRepository.saveAndFlush(existing), expectedVersion, "Group");
+        changePublisher.publish(EntityChange.Type.GROUP, id, saved.getVersion());
+        return toResponse(saved);
     }
 
     public void delete(Long id) {
@@ -87,6 +107,15 @@ public class VolunteerGroupService {
             );
         }
         groupRepository.deleteById(id);
+        changePublisher.publish(EntityChange.Type.GROUP, id);
+    }
+
+    private VolunteerGroup findGroup(Long id) {
+        return groupRepository.findWithOrganizerById(id)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND,
+                        "Group not found"
+                ));
     }
 
     private void attachOrganizer(VolunteerGroup group) {
@@ -101,7 +130,7 @@ public class VolunteerGroupService {
         group.setOrganizer(organizer);
     }
 
-    public List<VolunteerGroup> getByOrganizerId(Long organizerId) {
+    public List<VolunteerGroupResponse> getByOrganizerId(Long organizerId) {
         if (organizerId == null) {
             throw new ResponseStatusException(
                     HttpStatus.BAD_REQUEST,
@@ -109,6 +138,21 @@ public class VolunteerGroupService {
             );
         }
 
-        return groupRepository.findByOrganizerId(organizerId);
+        return toResponses(groupRepository.findByOrganizerId(organizerId));
+    }
+
+    private List<VolunteerGroupResponse> toResponses(List<VolunteerGroup> groups) {
+        return groups.stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    private VolunteerGroupResponse toResponse(VolunteerGroup group) {
+        return VolunteerGroupResponse.builder()
+                .id(group.getId())
+                .name(group.getName())
+                .organizer(UserSummaryResponse.of(group.getOrganizer()))
+                .createdAt(group.getCreatedAt())
+                .build();
     }
 }
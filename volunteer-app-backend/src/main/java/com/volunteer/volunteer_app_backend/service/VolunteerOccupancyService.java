@@ -0,0 +1,111 @@
+package com.volunteer.volunteer_app_backend.service;
+
+import com.volunteer.volunteer_app_backend.model.VolunteerOccupancyRow;
+import com.volunteer.volunteer_app_backend.repository.VolunteerOccupancyRepository;
+import com.volunteer.volunteer_app_backend.repository.VolunteerOccupancyView;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class VolunteerOccupancyService {
+
+    private static final Logger log = LoggerFactory.getLogger(VolunteerOccupancyService.class);
+
+    private final VolunteerOccupancyRepository occupancyRepository;
+
+    public List<VolunteerOccupancyRow> getRows() {
+        return occupancyRepository.findVolunteerRows()
+                .stream()
+                .map(this::toRow)
+                .toList();
+    }
+
+    public void writeCsv(OutputStream outputStream) throws IOException {
+        Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+        writer.write("volunteerId,fullName,email,totalTasks,activeTasks,completedTasks\n");
+
+        for (VolunteerOccupancyView view : occupancyRepository.findVolunteerRows()) {
+            writer.write(view.getVolunteerId() + ","
+                    + csv(view.getFullName()) + ","
+                    + csv(view.getEmail()) + ","
+                    + view.getTotalTasks() + ","
+                    + view.getActiveTasks() + ","
+                    + view.getCompletedTasks() + "\n");
+        }
+        writer.flush();
+    }
+
+    @Transactional
+    public void refresh(Long... volunteerIds) {
+        refresh(Arrays.asList(volunteerIds));
+    }
+
+    /**
+     * Recounts the given volunteers under their refresh locks; joins the caller's transaction so the locks are
+     * held until its task changes are committed.
+     */
+    @Transactional
+    public void refresh(Collection<Long> volunteerIds) {
+        Set<Long> ids = volunteerIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        if (!ids.isEmpty()) {
+            occupancyRepository.lockVolunteers(ids);
+            occupancyRepository.refresh(ids);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (occupancyRepository.count() == 0) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "${app.reports.occupancy.rebuild-cron:0 0 3 * * *}")
+    public void rebuild() {
+        int rows = occupancyRepository.rebuild();
+        log.info("Volunteer occupancy rollup rebuilt for {} users", rows);
+    }
+
+    private VolunteerOccupancyRow toRow(VolunteerOccupancyView view) {
+        return new VolunteerOccupancyRow(
+                view.getVolunteerId(),
+                view.getFullName(),
+                view.getEmail(),
+                view.getTotalTasks(),
+                view.getActiveTasks(),
+                view.getCompletedTasks()
+        );
+    }
+
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,19 @@
+package com.volunteer.volunteer_app_backend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ProjectDeletionResponse {
+    private Long projectId;
+    private Status status;
+    private long totalTasks;
+    private long deletedTasks;
+
+    public enum Status {
+        DELETING,
+        DELETED,
+        FAILED
+    }
+}
@@ -0,0 +1,18 @@
+package com.volunteer.volunteer_app_backend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+public class ProjectResponse {
+    private Long id;
+    private String title;
+    private String shortDescription;
+    private String description;
+    private UserSummaryResponse organizer;
+    private Instant createdAt;
+    private boolean deleting;
+}
@@ -0,0 +1,25 @@
+package com.volunteer.volunteer_app_backend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+public class ReportJobResponse {
+    private String id;
+    private Long reportId;
+    private String format;
+    private Status status;
+    private Instant createdAt;
+    private Instant finishedAt;
+    private String error;
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        DONE,
+        FAILED
+    }
+}
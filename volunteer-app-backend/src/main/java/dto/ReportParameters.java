@@ -0,0 +1,23 @@
+package com.volunteer.volunteer_app_backend.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+public class ReportParameters {
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dateFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dateTo;
+    private Long projectId;
+    private Long organizerId;
+    private Long groupId;
+
+    public boolean hasValues() {
+        return dateFrom != null || dateTo != null || projectId != null || organizerId != null || groupId != null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.volunteer.volunteer_app_backend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SearchHitResponse {
+    private String type;
+    private Long taskId;
+    private Long commentId;
+    private Long projectId;
+    private String title;
+    private String snippet;
+    private double rank;
+}
@@ -0,0 +1,22 @@
+package com.volunteer.volunteer_app_backend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class TaskBatchResponse {
+    private int created;
+    private int failed;
+    private List<RowResult> rows;
+
+    @Getter
+    @Builder
+    public static class RowResult {
+        private int row;
+        private Long id;
+        private String error;
+    }
+}
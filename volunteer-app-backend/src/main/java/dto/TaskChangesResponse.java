@@ -0,0 +1,24 @@
+package com.volunteer.volunteer_app_backend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class TaskChangesResponse {
+    private List<TaskResponse> changed;
+    private List<Tombstone> deleted;
+    private String token;
+    private boolean hasMore;
+
+    @Getter
+    @Builder
+    public static class Tombstone {
+        private Long id;
+        private Long projectId;
+        private LocalDateTime deletedAt;
+    }
+}
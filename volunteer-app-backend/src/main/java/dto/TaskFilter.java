@@ -0,0 +1,17 @@
+package com.volunteer.volunteer_app_backend.dto;
+
+import com.volunteer.volunteer_app_backend.model.TaskPriority;
+import com.volunteer.volunteer_app_backend.model.TaskStatus;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TaskFilter {
+    private TaskStatus status;
+    private TaskPriority priority;
+    private String taskType;
+    private Long projectId;
+    private Long assigneeUserId;
+    private Long assigneeGroupId;
+}
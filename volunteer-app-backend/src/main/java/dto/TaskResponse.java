@@ -0,0 +1,40 @@
+package com.volunteer.volunteer_app_backend.dto;
+
+import com.volunteer.volunteer_app_backend.model.TaskAssigneeType;
+import com.volunteer.volunteer_app_backend.model.TaskPriority;
+import com.volunteer.volunteer_app_backend.model.TaskStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class TaskResponse {
+    private Long id;
+    private String title;
+    private String description;
+    private String taskType;
+    private TaskPriority priority;
+    private TaskStatus status;
+    private ProjectSummary project;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private TaskAssigneeType assigneeType;
+    private UserSummaryResponse assigneeUser;
+    private GroupSummary assigneeGroup;
+
+    @Getter
+    @Builder
+    public static class ProjectSummary {
+        private Long id;
+        private String title;
+    }
+
+    @Getter
+    @Builder
+    public static class GroupSummary {
+        private Long id;
+        private String name;
+    }
+}
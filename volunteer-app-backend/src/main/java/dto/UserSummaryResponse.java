@@ -0,0 +1,27 @@
+package com.volunteer.volunteer_app_backend.dto;
+
+import com.volunteer.volunteer_app_backend.model.User;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class UserSummaryResponse {
+    private Long id;
+    private String name;
+    private String surname;
+    private String patronymic;
+
+    public static UserSummaryResponse of(User user) {
+        if (user == null) {
+            return null;
+        }
+
+        return UserSummaryResponse.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .surname(user.getSurname())
+                .patronymic(user.getPatronymic())
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.volunteer.volunteer_app_backend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class VolunteerGroupResponse {
+    private Long id;
+    private String name;
+    private UserSummaryResponse organizer;
+    private LocalDateTime createdAt;
+}
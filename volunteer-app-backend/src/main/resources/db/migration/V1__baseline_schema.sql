@@ -0,0 +1,73 @@
+-- Schema as previously generated by hibernate.ddl-auto=update.
+-- Existing databases are baselined at this version and skip it.
+
+create table if not exists users (
+    id            bigint generated by default as identity primary key,
+    email         varchar(255) not null,
+    name          varchar(255) not null,
+    surname       varchar(255) not null,
+    patronymic    varchar(255),
+    phone         varchar(255),
+    password_hash varchar(255) not null,
+    role          varchar(255) not null,
+    created_at    timestamp(6)
+);
+
+create table if not exists projects (
+    id                bigint generated by default as identity primary key,
+    title             varchar(255) not null,
+    short_description varchar(255),
+    description       text,
+    organizer_id      bigint references users (id),
+    created_at        timestamp(6) with time zone
+);
+
+create table if not exists project_participants (
+    id         bigint generated by default as identity primary key,
+    project_id bigint       not null references projects (id),
+    user_id    bigint       not null references users (id),
+    joined_at  timestamp(6)
+);
+
+create table if not exists volunteer_groups (
+    id           bigint generated by default as identity primary key,
+    name         varchar(255) not null,
+    organizer_id bigint       not null references users (id),
+    created_at   timestamp(6)
+);
+
+create table if not exists group_members (
+    id       bigint generated by default as identity primary key,
+    group_id bigint not null references volunteer_groups (id),
+    user_id  bigint not null references users (id)
+);
+
+create table if not exists tasks (
+    id                bigint generated by default as identity primary key,
+    title             varchar(255) not null,
+    description       text,
+    task_type         varchar(255),
+    priority          varchar(255),
+    status            varchar(255),
+    project_id        bigint       not null references projects (id),
+    created_at        timestamp(6),
+    updated_at        timestamp(6),
+    assignee_type     varchar(255),
+    assignee_user_id  bigint references users (id),
+    assignee_group_id bigint references volunteer_groups (id)
+);
+
+create table if not exists task_comments (
+    id         bigint generated by default as identity primary key,
+    task_id    bigint       not null references tasks (id),
+    author_id  bigint       not null references users (id),
+    text       text         not null,
+    created_at timestamp(6) not null
+);
+
+create table if not exists reports (
+    id            bigint generated by default as identity primary key,
+    name          varchar(255) not null,
+    birt_template varchar(255),
+    description   text
+);
@@ -0,0 +1,105 @@
+-- Objects added on top of the Hibernate-generated schema in V1. Written with if-not-exists so that databases
+-- baselined at V1 and databases that already picked them up through ddl-auto=update both converge.
+
+create sequence if not exists tasks_seq start with 1 increment by 50;
+alter table tasks alter column id drop identity if exists;
+
+alter table projects add column if not exists deleting boolean default false not null;
+
+create table if not exists report_parameters (
+    report_id bigint       not null references reports (id),
+    parameter varchar(255) not null,
+    primary key (report_id, parameter)
+);
+
+create table if not exists volunteer_occupancy (
+    volunteer_id    bigint primary key,
+    total_tasks     integer      not null,
+    active_tasks    integer      not null,
+    completed_tasks integer      not null,
+    refreshed_at    timestamp(6) not null
+);
+
+create table if not exists task_activity_daily (
+    id              bigint generated by default as identity primary key,
+    activity_date   date         not null,
+    project_id      bigint       not null,
+    volunteer_id    bigint,
+    group_id        bigint,
+    created_tasks   integer      not null,
+    completed_tasks integer      not null,
+    refreshed_at    timestamp(6) not null
+);
+
+create index if not exists idx_task_activity_daily_date_project on task_activity_daily (activity_date, project_id);
+create index if not exists idx_task_activity_daily_refreshed_at on task_activity_daily (refreshed_at);
+
+-- Foreign-key and keyset-pagination indexes.
+
+create index if not exists idx_tasks_project_updated on tasks (project_id, updated_at desc, id desc);
+create index if not exists idx_tasks_assignee_user_updated on tasks (assignee_user_id, updated_at desc, id desc);
+create index if not exists idx_tasks_assignee_group_updated on tasks (assignee_group_id, updated_at desc, id desc);
+create index if not exists idx_tasks_updated on tasks (updated_at desc, id desc);
+create index if not exists idx_tasks_created_at on tasks (created_at);
+
+create index if not exists idx_task_comments_task_created on task_comments (task_id, created_at desc);
+create index if not exists idx_task_comments_author on task_comments (author_id);
+
+create index if not exists idx_project_participants_user_project on project_participants (user_id, project_id);
+create index if not exists idx_group_members_user on group_members (user_id);
+
+create index if not exists idx_projects_organizer on projects (organizer_id);
+create index if not exists idx_projects_deleting on projects (id) where deleting;
+create index if not exists idx_projects_title_upper on projects (upper(title));
+create index if not exists idx_volunteer_groups_organizer on volunteer_groups (organizer_id);
+
+-- Full-text search (previously expression indexes created at startup by SearchIndexInitializer). The vectors
+-- are stored so that matching and ranking read them instead of re-parsing the TEXT columns of every match.
+
+alter table tasks add column if not exists search_vector tsvector
+    generated always as (to_tsvector('russian', coalesce(title, '') || ' ' || coalesce(description, ''))) stored;
+alter table task_comments add column if not exists search_vector tsvector
+    generated always as (to_tsvector('russian', coalesce(text, ''))) stored;
+
+drop index if exists tasks_search_idx;
+drop index if exists task_comments_search_idx;
+create index if not exists idx_tasks_search_vector on tasks using gin (search_vector);
+create index if not exists idx_task_comments_search_vector on task_comments using gin (search_vector);
+
+-- Unique constraints. Duplicate memberships left by earlier check-then-insert races are dropped first;
+-- duplicate user emails are not merged automatically and must be resolved before this migration runs.
+
+delete from project_participants pp
+using project_participants other
+where other.project_id = pp.project_id
+  and other.user_id = pp.user_id
+  and other.id < pp.id;
+
+delete from group_members gm
+using group_members other
+where other.group_id = gm.group_id
+  and other.user_id = gm.user_id
+  and other.id < gm.id;
+
+delete from report_parameters rp
+using reports r, reports other
+where rp.report_id = r.id
+  and other.birt_template = r.birt_template
+  and other.id < r.id;
+
+delete from reports r
+using reports other
+where other.birt_template = r.birt_template
+  and other.id < r.id;
+
+alter table users add constraint uk_users_email unique (email);
+alter table project_participants add constraint uk_project_participants_project_user unique (project_id, user_id);
+alter table group_members add constraint uk_group_members_group_user unique (group_id, user_id);
+alter table reports add constraint uk_reports_birt_template unique (birt_template);
+
+-- Tasks created before the switch from IDENTITY keep their ids; move the pooled sequence past them.
+
+select setval('tasks_seq', greatest(
+        (select coalesce(max(id), 1) from tasks),
+        (select last_value from tasks_seq)
+));
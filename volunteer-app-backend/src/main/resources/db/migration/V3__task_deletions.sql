@@ -0,0 +1,14 @@
+-- Tombstones for the task delta-sync API, pruned after app.tasks.changes.tombstone-retention.
+
+create table if not exists task_deletions (
+    id         bigint generated by default as identity primary key,
+    task_id    bigint       not null,
+    project_id bigint       not null,
+    deleted_at timestamp(6) not null
+);
+
+create index if not exists idx_task_deletions_project on task_deletions (project_id, id);
+create index if not exists idx_task_deletions_deleted_at on task_deletions (deleted_at);
+
+-- Change tokens are keyed on updated_at; rows written before it was maintained would never sync.
+update tasks set updated_at = coalesce(created_at, now()) where updated_at is null;
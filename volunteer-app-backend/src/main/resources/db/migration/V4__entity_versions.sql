@@ -0,0 +1,6 @@
+-- Optimistic-lock versions, also used as ETag version stamps.
+
+alter table tasks add column if not exists version bigint default 0 not null;
+alter table projects add column if not exists version bigint default 0 not null;
+alter table volunteer_groups add column if not exists version bigint default 0 not null;
+alter table users add column if not exists version bigint default 0 not null;
@@ -0,0 +1,4 @@
+-- Task pages are keyed on (updated_at, id); a null updated_at cannot be encoded in a cursor.
+
+update tasks set updated_at = coalesce(created_at, now()) where updated_at is null;
+alter table tasks alter column updated_at set not null;
@@ -0,0 +1,24 @@
+-- Days whose task_activity_daily rows lost a task through an update or delete. The incremental refresh only
+-- sees the current created_at/updated_at of surviving tasks, so the days a task moved away from are logged
+-- here and consumed by the next refresh.
+
+create table if not exists task_activity_touched_days (
+    id            bigint generated by default as identity primary key,
+    activity_date date not null
+);
+
+create or replace function record_task_activity_touch() returns trigger as $$
+begin
+    insert into task_activity_touched_days (activity_date)
+    select v.day
+    from (values (cast(old.created_at as date)),
+                 (case when old.status = 'DONE' then cast(old.updated_at as date) end)) v(day)
+    where v.day is not null;
+    return null;
+end;
+$$ language plpgsql;
+
+drop trigger if exists tasks_activity_touch on tasks;
+create trigger tasks_activity_touch
+    after update or delete on tasks
+    for each row execute function record_task_activity_touch();
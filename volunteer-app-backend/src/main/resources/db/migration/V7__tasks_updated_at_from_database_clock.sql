@@ -0,0 +1,15 @@
+-- The change feed orders tasks by updated_at, so every replica has to stamp it from the same clock. The database
+-- sets it on each insert and update with clock_timestamp(), i.e. when the row is written rather than when the
+-- transaction started, and ignores whatever value the application sent.
+
+create or replace function stamp_task_updated_at() returns trigger as $$
+begin
+    new.updated_at := cast(clock_timestamp() as timestamp);
+    return new;
+end;
+$$ language plpgsql;
+
+drop trigger if exists tasks_stamp_updated_at on tasks;
+create trigger tasks_stamp_updated_at
+    before insert or update on tasks
+    for each row execute function stamp_task_updated_at();
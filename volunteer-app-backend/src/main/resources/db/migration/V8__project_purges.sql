@@ -0,0 +1,11 @@
+-- Chunked project purges, shared by all replicas: a DELETE or status poll may land on any node, so the purge
+-- state lives here instead of in node memory. Rows outlive their project and are pruned after
+-- app.projects.purge.progress-retention.
+
+create table if not exists project_purges (
+    project_id  bigint primary key,
+    total_tasks bigint       not null,
+    status      varchar(16)  not null,
+    started_at  timestamp(6) not null,
+    finished_at timestamp(6)
+);
@@ -0,0 +1,77 @@
+package com.volunteer.volunteer_app_backend.benchmark;
+
+import com.volunteer.volunteer_app_backend.security.JwtTokenVerifier;
+import com.volunteer.volunteer_app_backend.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares JWT authentication cost: a parser built per call (the previous behaviour), the shared parser, and a
+ * verified-token cache hit. Run with {@code ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.volunteer.volunteer_app_backend.benchmark.JwtVerificationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "very_secret_key_very_secret_key_very_secret_key_123";
+
+    private String token;
+    private JwtTokenVerifier verifier;
+
+    @Setup
+    public void setUp() {
+        token = JwtUtil.generateToken(42L, "VOLUNTEER");
+        verifier = new JwtTokenVerifier(new SimpleMeterRegistry(), 10_000);
+        verifier.verify(token);
+    }
+
+    @Benchmark
+    public Claims parserPerCall() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims sharedParser() {
+        return JwtUtil.validate(token);
+    }
+
+    @Benchmark
+    public JwtTokenVerifier.VerifiedToken cachedVerification() {
+        return verifier.verify(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
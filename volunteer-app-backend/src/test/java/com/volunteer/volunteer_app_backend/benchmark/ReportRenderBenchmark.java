@@ -0,0 +1,214 @@
+package com.volunteer.volunteer_app_backend.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures live BIRT render latency and throughput against a running backend.
+ *
+ * <p>Start Postgres locally (for example {@code docker run -p 5432:5432 -e POSTGRES_DB=volunteer_db
+ * -e POSTGRES_PASSWORD=postgres postgres:16}), start the application once so the schema exists, then run
+ * this class from the IDE or with {@code ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.volunteer.volunteer_app_backend.benchmark.ReportRenderBenchmark}. Run the application
+ * with {@code --app.rate-limit.enabled=false --app.concurrency.enabled=false}; otherwise the unauthenticated
+ * requests land in the {@code reports} rate-limit bucket and are mostly answered with 429.
+ *
+ * <p>By default every request uses {@code fresh=true}, which skips snapshots and the executed-document cache,
+ * so each sample is a full run and render. {@code -Dbench.fresh=false} measures renders from cached documents.
+ *
+ * <p>System properties: {@code bench.baseUrl}, {@code bench.jdbcUrl}, {@code bench.user}, {@code bench.password},
+ * {@code bench.seed} (seed synthetic data, default true), {@code bench.volunteers}, {@code bench.projects},
+ * {@code bench.tasks}, {@code bench.reportId}, {@code bench.formats}, {@code bench.fresh}, {@code bench.concurrency},
+ * {@code bench.requests} (per concurrency level) and {@code bench.warmup}.
+ */
+public class ReportRenderBenchmark {
+
+    private static final String SEED_MARKER = "bench-";
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("bench.baseUrl", "http://localhost:8080");
+        long reportId = Long.getLong("bench.reportId", 1L);
+        List<String> formats = Arrays.asList(System.getProperty("bench.formats", "html,pdf,xls").split(","));
+        int[] levels = Arrays.stream(System.getProperty("bench.concurrency", "1,2,4,8").split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        int requests = Integer.getInteger("bench.requests", 40);
+        int warmup = Integer.getInteger("bench.warmup", 5);
+        boolean fresh = Boolean.parseBoolean(System.getProperty("bench.fresh", "true"));
+
+        if (Boolean.parseBoolean(System.getProperty("bench.seed", "true"))) {
+            seed();
+        }
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+        System.out.printf("%-6s %-12s %-10s %-10s %-10s %-8s%n", "format", "concurrency", "p50 ms", "p99 ms", "renders/s", "errors");
+        for (String format : formats) {
+            URI uri = URI.create(baseUrl + ("html".equals(format)
+                    ? "/api/reports/" + reportId + "/render?fresh=" + fresh
+                    : "/api/reports/" + reportId + "/export?fresh=" + fresh + "&format=" + format));
+
+            for (int i = 0; i < warmup; i++) {
+                send(client, uri);
+            }
+            for (int concurrency : levels) {
+                run(client, uri, format, concurrency, requests);
+            }
+        }
+    }
+
+    private static void run(HttpClient client, URI uri, String format, int concurrency, int requests) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger remaining = new AtomicInteger(requests);
+
+        long startedAt = System.nanoTime();
+        List<Future<?>> workers = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            workers.add(executor.submit(() -> {
+                while (remaining.getAndDecrement() > 0) {
+                    long requestStartedAt = System.nanoTime();
+                    if (send(client, uri)) {
+                        latencies.add(System.nanoTime() - requestStartedAt);
+                    } else {
+                        errors.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        executor.shutdown();
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        System.out.printf("%-6s %-12d %-10.1f %-10.1f %-10.2f %-8d%n",
+                format,
+                concurrency,
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.99),
+                sorted.size() / elapsedSeconds,
+                errors.get());
+    }
+
+    private static boolean send(HttpClient client, URI uri) {
+        try {
+            HttpResponse<byte[]> response = client.send(
+                    HttpRequest.newBuilder(uri).timeout(Duration.ofMinutes(2)).GET().build(),
+                    HttpResponse.BodyHandlers.ofByteArray()
+            );
+            return response.statusCode() == 200;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static double percentile(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1_000_000.0;
+    }
+
+    private static void seed() throws SQLException {
+        String jdbcUrl = System.getProperty("bench.jdbcUrl", "jdbc:postgresql://localhost:5432/volunteer_db");
+        String user = System.getProperty("bench.user", "postgres");
+        String password = System.getProperty("bench.password", "postgres");
+        int volunteers = Integer.getInteger("bench.volunteers", 500);
+        int projects = Integer.getInteger("bench.projects", 50);
+        int tasks = Integer.getInteger("bench.tasks", 20000);
+
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, user, password);
+             Statement statement = connection.createStatement()) {
+            try (ResultSet seeded = statement.executeQuery(
+                    "select count(*) from users where email like '" + SEED_MARKER + "%'")) {
+                seeded.next();
+                if (seeded.getLong(1) > 0) {
+                    System.out.println("Synthetic data already present, skipping seed");
+                    return;
+                }
+            }
+
+            connection.setAutoCommit(false);
+            statement.execute("select setseed(0.42)");
+            statement.execute("""
+                    insert into users (email, name, surname, patronymic, phone, password_hash, role, created_at)
+                    select '%1$sorganizer-' || g || '@example.test', 'Организатор', 'Тестовый', null, null, 'x',
+                           'ORGANIZER', now()
+                    from generate_series(1, greatest(1, %2$d / 10)) g
+                    """.formatted(SEED_MARKER, projects));
+            statement.execute("""
+                    insert into users (email, name, surname, patronymic, phone, password_hash, role, created_at)
+                    select '%1$svolunteer-' || g || '@example.test', 'Волонтер' || g, 'Тестовый', 'Иванович',
+                           '+7900' || lpad(g::text, 7, '0'), 'x', 'VOLUNTEER', now()
+                    from generate_series(1, %2$d) g
+                    """.formatted(SEED_MARKER, volunteers));
+            statement.execute("""
+                    insert into projects (title, short_description, description, organizer_id, created_at, deleting)
+                    select 'Проект ' || g, 'Синтетический проект', null,
+                           (select id from users where email like '%1$sorganizer-%%' order by random() limit 1),
+                           now(), false
+                    from generate_series(1, %2$d) g
+                    """.formatted(SEED_MARKER, projects));
+            statement.execute("""
+                    with volunteers as (
+                        select id, row_number() over (order by id) as n
+                        from users where email like '%1$svolunteer-%%'
+                    ), seeded_projects as (
+                        select id, row_number() over (order by id) as n
+                        from projects where short_description = 'Синтетический проект'
+                    )
+                    insert into tasks (id, title, description, task_type, priority, status, project_id,
+                                       created_at, updated_at, assignee_type, assignee_user_id)
+                    select nextval('tasks_seq'), 'Задача ' || g, 'Синтетическая задача', 'bench',
+                           (array['LOW', 'MEDIUM', 'HIGH'])[1 + (g %% 3)],
+                           (array['OPEN', 'IN_PROGRESS', 'DONE'])[1 + floor(random() * 3)::int],
+                           p.id,
+                           now() - (random() * interval '90 days'),
+                           now() - (random() * interval '30 days'),
+                           'USER', v.id
+                    from generate_series(1, %2$d) g
+                    join volunteers v on v.n = 1 + (g %% (select count(*) from volunteers))
+                    join seeded_projects p on p.n = 1 + (g %% (select count(*) from seeded_projects))
+                    """.formatted(SEED_MARKER, tasks));
+            statement.execute("""
+                    insert into volunteer_occupancy (volunteer_id, total_tasks, active_tasks, completed_tasks, refreshed_at)
+                    select u.id,
+                           count(t.id),
+                           count(t.id) filter (where t.status = 'IN_PROGRESS'),
+                           count(t.id) filter (where t.status = 'DONE'),
+                           now()
+                    from users u
+                    left join tasks t on t.assignee_user_id = u.id
+                    group by u.id
+                    on conflict (volunteer_id) do update
+                    set total_tasks = excluded.total_tasks,
+                        active_tasks = excluded.active_tasks,
+                        completed_tasks = excluded.completed_tasks,
+                        refreshed_at = excluded.refreshed_at
+                    """);
+            connection.commit();
+            System.out.printf("Seeded %d volunteers, %d projects and %d tasks%n", volunteers, projects, tasks);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.volunteer.volunteer_app_backend.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives the task and project list endpoints at high concurrency so platform and virtual thread modes can be
+ * compared. Seed data with {@link ReportRenderBenchmark} first, then run the application twice, once with
+ * {@code --spring.threads.virtual.enabled=false} and once with {@code =true}, in both cases with
+ * {@code --app.rate-limit.enabled=false --app.concurrency.enabled=false} so the limiters do not shape the load.
+ * Run this class between the two with the same settings and compare the output.
+ *
+ * <p>System properties: {@code bench.baseUrl}, {@code bench.concurrency}, {@code bench.duration} (per endpoint
+ * and concurrency level, ISO-8601) and {@code bench.warmup}.
+ */
+public class ThreadModeBenchmark {
+
+    private static final List<String> ENDPOINTS = List.of(
+            "/api/tasks?limit=50",
+            "/api/projects"
+    );
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("bench.baseUrl", "http://localhost:8080");
+        int[] levels = Arrays.stream(System.getProperty("bench.concurrency", "50,200,800").split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        Duration duration = Duration.parse(System.getProperty("bench.duration", "PT20S"));
+        Duration warmup = Duration.parse(System.getProperty("bench.warmup", "PT10S"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        System.out.printf("%-22s %-12s %-10s %-10s %-10s %-8s%n", "endpoint", "concurrency", "p50 ms", "p99 ms", "req/s", "errors");
+        for (String endpoint : ENDPOINTS) {
+            URI uri = URI.create(baseUrl + endpoint);
+            run(client, uri, levels[0], warmup, null);
+            for (int concurrency : levels) {
+                run(client, uri, concurrency, duration, endpoint);
+            }
+        }
+    }
+
+    private static void run(HttpClient client, URI uri, int concurrency, Duration duration, String label) throws Exception {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger errors = new AtomicInteger();
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long requestStartedAt = System.nanoTime();
+                        if (send(client, uri)) {
+                            latencies.add(System.nanoTime() - requestStartedAt);
+                        } else {
+                            errors.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+
+        if (label == null) {
+            return;
+        }
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        System.out.printf("%-22s %-12d %-10.1f %-10.1f %-10.1f %-8d%n",
+                label,
+                concurrency,
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.99),
+                sorted.size() / elapsedSeconds,
+                errors.get());
+    }
+
+    private static boolean send(HttpClient client, URI uri) {
+        try {
+            HttpResponse<Void> response = client.send(
+                    HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build(),
+                    HttpResponse.BodyHandlers.discarding()
+            );
+            return response.statusCode() == 200;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static double percentile(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,519 @@
+package com.volunteer.volunteer_app_backend.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteer.volunteer_app_backend.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Calls the {@link TaskRepository}, {@link ProjectRepository} and {@link TaskCommentRepository} queries against a
+ * seeded database, captures the SQL and parameter types Hibernate actually sends to the driver, and fails when
+ * the generic plan of a statement that should be served by an index falls back to a sequential scan.
+ * Unfiltered queries such as {@code findAll} scan by design and are not listed.
+ *
+ * <p>Each captured statement is prepared with the bound JDBC types and explained under
+ * {@code plan_cache_mode = force_generic_plan}: after a few executions PostgreSQL may switch a bound statement
+ * to that plan, which cannot prune the {@code :x is null or ...} branches, so it is the one that has to stay
+ * indexed. Because a generic plan does not depend on the values, the modifying queries are called with ids that
+ * do not exist and leave the seed intact.
+ *
+ * <p>The seed is rolled back after the test, together with the statistics collected for it.
+ */
+@SpringBootTest
+@Transactional
+class QueryPlanTest {
+
+    private static final String SEED_MARKER = "plan-";
+    private static final int ORGANIZERS = 200;
+    private static final int VOLUNTEERS = 20000;
+    private static final int PROJECTS = 2000;
+    private static final int GROUPS = 500;
+    private static final int TASKS = 100000;
+    private static final long MISSING_ID = -1L;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private StatementCapture statementCapture;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskCommentRepository taskCommentRepository;
+
+    @Test
+    void repositoryQueriesUseIndexes() throws Exception {
+        seed();
+
+        long projectId = queryLong("select id from projects where short_description = '" + SEED_MARKER
+                + "project' order by id offset 7 limit 1");
+        long organizerId = queryLong("select organizer_id from projects where id = " + projectId);
+        long volunteerId = queryLong("select id from users where email like '" + SEED_MARKER
+                + "volunteer-%' order by id offset 11 limit 1");
+        long taskId = queryLong("select id from tasks where project_id = " + projectId + " order by id limit 1");
+        long commentId = queryLong("select id from task_comments where task_id = " + taskId + " limit 1");
+        Map<String, Object> cursor = jdbcTemplate.queryForMap("""
+                select updated_at, id from tasks where project_id = ?
+                order by updated_at desc, id desc offset 10 limit 1
+                """, projectId);
+        LocalDateTime afterUpdatedAt = ((java.sql.Timestamp) cursor.get("updated_at")).toLocalDateTime();
+        long afterId = ((Number) cursor.get("id")).longValue();
+        List<Long> taskIds = List.of(taskId, taskId + 1, taskId + 2);
+        List<Long> missingIds = List.of(MISSING_ID, MISSING_ID - 1, MISSING_ID - 2);
+
+        List<PlanCase> cases = List.of(
+                new PlanCase("TaskRepository.countByProject_Id",
+                        () -> taskRepository.countByProject_Id(projectId), "tasks"),
+                new PlanCase("TaskRepository.findAssigneeUserIdById",
+                        () -> taskRepository.findAssigneeUserIdById(taskId), "tasks"),
+                new PlanCase("TaskRepository.findAssigneeUserIdsByProjectId",
+                        () -> taskRepository.findAssigneeUserIdsByProjectId(projectId), "tasks"),
+                new PlanCase("TaskRepository.findAssigneeUserIdsByIdIn",
+                        () -> taskRepository.findAssigneeUserIdsByIdIn(taskIds), "tasks"),
+                new PlanCase("TaskRepository.findIdsByProjectId",
+                        () -> taskRepository.findIdsByProjectId(projectId, PageRequest.of(0, 1000)), "tasks"),
+                new PlanCase("TaskRepository.deleteTaskById",
+                        () -> taskRepository.deleteTaskById(MISSING_ID), "tasks"),
+                new PlanCase("TaskRepository.deleteAllByIdIn",
+                        () -> taskRepository.deleteAllByIdIn(missingIds), "tasks"),
+                new PlanCase("TaskRepository.deleteAllByProjectId",
+                        () -> taskRepository.deleteAllByProjectId(MISSING_ID), "tasks"),
+                new PlanCase("TaskRepository.findWithAssociationsById",
+                        () -> taskRepository.findWithAssociationsById(taskId), "tasks", "projects", "users"),
+                new PlanCase("TaskRepository.findVersionStampById",
+                        () -> taskRepository.findVersionStampById(taskId), "tasks", "projects"),
+                new PlanCase("TaskRepository.findVersionStampByProjectId",
+                        () -> taskRepository.findVersionStampByProjectId(projectId), "tasks", "projects"),
+                new PlanCase("TaskRepository.findChangedSince",
+                        () -> taskRepository.findChangedSince(projectId, afterUpdatedAt, afterId,
+                                LocalDateTime.now(), PageRequest.of(0, 51)), "tasks"),
+                new PlanCase("TaskRepository.findPage",
+                        () -> taskRepository.findPage(TaskStatus.IN_PROGRESS, null, null, null, organizerId,
+                                volunteerId, null, volunteerId, afterUpdatedAt, afterId, PageRequest.of(0, 51)),
+                        "tasks", "project_participants"),
+
+                new PlanCase("ProjectRepository.findWithOrganizerById",
+                        () -> projectRepository.findWithOrganizerById(projectId), "projects", "users"),
+                new PlanCase("ProjectRepository.findByOrganizerId",
+                        () -> projectRepository.findByOrganizerId(organizerId), "projects", "users"),
+                new PlanCase("ProjectRepository.existsByTitleIgnoreCase",
+                        () -> projectRepository.existsByTitleIgnoreCase(SEED_MARKER + "Проект 42"), "projects"),
+                new PlanCase("ProjectRepository.findVersionStampById",
+                        () -> projectRepository.findVersionStampById(projectId), "projects"),
+                new PlanCase("ProjectRepository.findVersionStampByOrganizerId",
+                        () -> projectRepository.findVersionStampByOrganizerId(organizerId), "projects"),
+                new PlanCase("ProjectRepository.findVersionStampByParticipantId",
+                        () -> projectRepository.findVersionStampByParticipantId(volunteerId),
+                        "projects", "project_participants"),
+                new PlanCase("ProjectRepository.findDeletingIds",
+                        () -> projectRepository.findDeletingIds(), "projects"),
+                new PlanCase("ProjectRepository.markDeleting",
+                        () -> projectRepository.markDeleting(MISSING_ID), "projects"),
+                new PlanCase("ProjectRepository.deleteProjectById",
+                        () -> projectRepository.deleteProjectById(MISSING_ID), "projects"),
+                new PlanCase("ProjectRepository.findAllParticipantsByOrganizerId",
+                        () -> projectRepository.findAllParticipantsByOrganizerId(organizerId),
+                        "projects", "project_participants", "users"),
+                new PlanCase("ProjectRepository.findByParticipantId",
+                        () -> projectRepository.findByParticipantId(volunteerId),
+                        "projects", "project_participants", "users"),
+                new PlanCase("ProjectRepository.findByNonParticipantId",
+                        () -> projectRepository.findByNonParticipantId(volunteerId), "project_participants"),
+
+                new PlanCase("TaskCommentRepository.findByTaskIdOrderByCreatedAtDesc",
+                        () -> taskCommentRepository.findByTaskIdOrderByCreatedAtDesc(taskId),
+                        "task_comments", "users"),
+                new PlanCase("TaskCommentRepository.findByIdAndTaskId",
+                        () -> taskCommentRepository.findByIdAndTaskId(commentId, taskId), "task_comments", "users"),
+                new PlanCase("TaskCommentRepository.deleteAllByTaskId",
+                        () -> taskCommentRepository.deleteAllByTaskId(MISSING_ID), "task_comments"),
+                new PlanCase("TaskCommentRepository.deleteAllByTaskIdIn",
+                        () -> taskCommentRepository.deleteAllByTaskIdIn(missingIds), "task_comments"),
+                new PlanCase("TaskCommentRepository.deleteAllByProjectId",
+                        () -> taskCommentRepository.deleteAllByProjectId(MISSING_ID), "task_comments", "tasks")
+        );
+
+        jdbcTemplate.execute("set local plan_cache_mode = force_generic_plan");
+        List<String> failures = new ArrayList<>();
+        for (PlanCase planCase : cases) {
+            List<CapturedStatement> statements = statementCapture.capture(planCase.call());
+            entityManager.clear();
+            if (statements.isEmpty()) {
+                failures.add(planCase.name() + ": no SQL was sent to the database");
+            }
+            for (CapturedStatement statement : statements) {
+                JsonNode plan = objectMapper.readTree(explainGenericPlan(statement)).get(0).get("Plan");
+                collectSeqScans(plan, planCase, failures);
+            }
+        }
+
+        assertThat(failures).isEmpty();
+    }
+
+    private String explainGenericPlan(CapturedStatement statement) {
+        int parameters = statement.parameterCount();
+        List<String> types = new ArrayList<>();
+        for (int i = 1; i <= parameters; i++) {
+            types.add(statement.parameterTypes().getOrDefault(i, "unknown"));
+        }
+        String arguments = parameters == 0 ? "" : "(" + String.join(", ", Collections.nCopies(parameters, "null")) + ")";
+        jdbcTemplate.execute("prepare plan_case" + (parameters == 0 ? "" : "(" + String.join(", ", types) + ")")
+                + " as " + statement.sql());
+        try {
+            return jdbcTemplate.queryForObject("explain (format json) execute plan_case" + arguments, String.class);
+        } finally {
+            jdbcTemplate.execute("deallocate plan_case");
+        }
+    }
+
+    private static void collectSeqScans(JsonNode node, PlanCase planCase, List<String> failures) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())
+                && planCase.indexedTables().contains(node.path("Relation Name").asText())) {
+            failures.add(planCase.name() + ": seq scan on " + node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSeqScans(child, planCase, failures);
+        }
+    }
+
+    private long queryLong(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private void seed() {
+        jdbcTemplate.execute("select setseed(0.42)");
+        jdbcTemplate.execute("""
+                insert into users (email, name, surname, password_hash, role, created_at)
+                select '%1$sorganizer-' || g || '@example.test', 'Организатор', 'Тестовый', 'x', 'ORGANIZER', now()
+                from generate_series(1, %2$d) g
+                """.formatted(SEED_MARKER, ORGANIZERS));
+        jdbcTemplate.execute("""
+                insert into users (email, name, surname, password_hash, role, created_at)
+                select '%1$svolunteer-' || g || '@example.test', 'Волонтер', 'Тестовый', 'x', 'VOLUNTEER', now()
+                from generate_series(1, %2$d) g
+                """.formatted(SEED_MARKER, VOLUNTEERS));
+        jdbcTemplate.execute("""
+                with organizers as (
+                    select id, row_number() over (order by id) as n
+                    from users where email like '%1$sorganizer-%%'
+                )
+                insert into projects (title, short_description, organizer_id, created_at, deleting)
+                select '%1$sПроект ' || g, '%1$sproject', o.id, now(), false
+                from generate_series(1, %2$d) g
+                join organizers o on o.n = 1 + (g %% %3$d)
+                """.formatted(SEED_MARKER, PROJECTS, ORGANIZERS));
+        jdbcTemplate.execute("""
+                with organizers as (
+                    select id, row_number() over (order by id) as n
+                    from users where email like '%1$sorganizer-%%'
+                )
+                insert into volunteer_groups (name, organizer_id, created_at)
+                select '%1$sгруппа ' || g, o.id, now()
+                from generate_series(1, %2$d) g
+                join organizers o on o.n = 1 + (g %% %3$d)
+                """.formatted(SEED_MARKER, GROUPS, ORGANIZERS));
+        jdbcTemplate.execute("""
+                with volunteers as (
+                    select id, row_number() over (order by id) as n
+                    from users where email like '%1$svolunteer-%%'
+                ), seeded_groups as (
+                    select id, row_number() over (order by id) as n
+                    from volunteer_groups where name like '%1$s%%'
+                )
+                insert into group_members (group_id, user_id)
+                select sg.id, v.id
+                from volunteers v
+                join seeded_groups sg on sg.n = 1 + (v.n %% %2$d)
+                """.formatted(SEED_MARKER, GROUPS));
+        jdbcTemplate.execute("""
+                with volunteers as (
+                    select id, row_number() over (order by id) as n
+                    from users where email like '%1$svolunteer-%%'
+                ), seeded_projects as (
+                    select id, row_number() over (order by id) as n
+                    from projects where short_description = '%1$sproject'
+                )
+                insert into project_participants (project_id, user_id, joined_at)
+                select p.id, v.id, now()
+                from volunteers v
+                cross join generate_series(0, 1) k
+                join seeded_projects p on p.n = 1 + ((v.n * 2 + k) %% %2$d)
+                """.formatted(SEED_MARKER, PROJECTS));
+        jdbcTemplate.execute("""
+                with volunteers as (
+                    select id, row_number() over (order by id) as n
+                    from users where email like '%1$svolunteer-%%'
+                ), seeded_projects as (
+                    select id, row_number() over (order by id) as n
+                    from projects where short_description = '%1$sproject'
+                ), seeded_groups as (
+                    select id, row_number() over (order by id) as n
+                    from volunteer_groups where name like '%1$s%%'
+                )
+                insert into tasks (id, title, description, task_type, priority, status, project_id,
+                                   created_at, updated_at, assignee_type, assignee_user_id, assignee_group_id)
+                select nextval('tasks_seq'), 'Задача ' || g, 'Синтетическая задача', 'plan',
+                       (array['LOW', 'MEDIUM', 'HIGH'])[1 + (g %% 3)],
+                       (array['OPEN', 'IN_PROGRESS', 'DONE'])[1 + floor(random() * 3)::int],
+                       p.id,
+                       now() - (random() * interval '90 days'),
+                       now() - (random() * interval '30 days'),
+                       case g %% 4 when 2 then 'GROUP' when 3 then null else 'USER' end,
+                       case when g %% 4 in (0, 1) then v.id end,
+                       case when g %% 4 = 2 then sg.id end
+                from generate_series(1, %2$d) g
+                join volunteers v on v.n = 1 + (g %% %3$d)
+                join seeded_projects p on p.n = 1 + (g %% %4$d)
+                join seeded_groups sg on sg.n = 1 + (g %% %5$d)
+                """.formatted(SEED_MARKER, TASKS, VOLUNTEERS, PROJECTS, GROUPS));
+        jdbcTemplate.execute("""
+                insert into task_comments (task_id, author_id, text, created_at)
+                select t.id, coalesce(t.assignee_user_id, p.organizer_id), 'Комментарий', t.updated_at
+                from tasks t
+                join projects p on p.id = t.project_id
+                where t.task_type = 'plan'
+                """);
+        jdbcTemplate.execute("analyze users, projects, volunteer_groups, group_members, project_participants, "
+                + "tasks, task_comments");
+    }
+
+    private record PlanCase(String name, Runnable call, Set<String> indexedTables) {
+
+        PlanCase(String name, Runnable call, String... indexedTables) {
+            this(name, call, Set.of(indexedTables));
+        }
+    }
+
+    /**
+     * SQL as the driver received it, with {@code ?} placeholders renumbered to {@code $n} and the PostgreSQL
+     * type of each bound parameter.
+     */
+    record CapturedStatement(String sql, int parameterCount, Map<Integer, String> parameterTypes) {
+    }
+
+    @TestConfiguration
+    static class StatementCaptureConfiguration {
+
+        @Bean
+        static StatementCapture statementCapture() {
+            return new StatementCapture();
+        }
+    }
+
+    /**
+     * Wraps the application {@link DataSource} so the statements prepared while {@link #capture} runs are
+     * recorded together with the JDBC types they were bound with.
+     */
+    static class StatementCapture implements BeanPostProcessor {
+
+        private final ThreadLocal<List<Recording>> recordings = new ThreadLocal<>();
+
+        List<CapturedStatement> capture(Runnable call) {
+            List<Recording> captured = new ArrayList<>();
+            recordings.set(captured);
+            try {
+                call.run();
+            } finally {
+                recordings.remove();
+            }
+            return captured.stream().map(Recording::toStatement).toList();
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return wrap(super.getConnection());
+                }
+
+                @Override
+                public Connection getConnection(String username, String password) throws SQLException {
+                    return wrap(super.getConnection(username, password));
+                }
+            };
+        }
+
+        private Connection wrap(Connection connection) {
+            return proxy(Connection.class, connection, (method, args, result) -> {
+                List<Recording> captured = recordings.get();
+                if (captured == null || !method.getName().equals("prepareStatement")
+                        || !(args[0] instanceof String sql)) {
+                    return result;
+                }
+                Recording recording = new Recording(sql);
+                captured.add(recording);
+                return proxy(PreparedStatement.class, (PreparedStatement) result, (setter, setterArgs, bound) -> {
+                    if (setter.getName().startsWith("set") && setterArgs != null && setterArgs.length >= 2
+                            && setterArgs[0] instanceof Integer index) {
+                        recording.parameterTypes.put(index, typeOf(setter.getName(), setterArgs));
+                    }
+                    return bound;
+                });
+            });
+        }
+
+        private static String typeOf(String setter, Object[] args) {
+            return switch (setter) {
+                case "setNull" -> jdbcTypeName((Integer) args[1]);
+                case "setObject" -> args.length > 2 && args[2] instanceof Integer sqlType ? jdbcTypeName(sqlType)
+                        : args.length > 2 && args[2] instanceof SQLType sqlType ? jdbcTypeName(sqlType.getVendorTypeNumber())
+                        : valueTypeName(args[1]);
+                case "setLong" -> "bigint";
+                case "setInt" -> "integer";
+                case "setShort", "setByte" -> "smallint";
+                case "setBoolean" -> "boolean";
+                case "setString", "setNString" -> "varchar";
+                case "setTimestamp" -> "timestamp";
+                case "setDate" -> "date";
+                case "setTime" -> "time";
+                case "setDouble" -> "double precision";
+                case "setFloat" -> "real";
+                case "setBigDecimal" -> "numeric";
+                case "setBytes" -> "bytea";
+                default -> "unknown";
+            };
+        }
+
+        private static String jdbcTypeName(Integer sqlType) {
+            JDBCType type;
+            try {
+                type = sqlType == null ? JDBCType.OTHER : JDBCType.valueOf(sqlType);
+            } catch (IllegalArgumentException e) {
+                return "unknown";
+            }
+            return switch (type) {
+                case BIGINT -> "bigint";
+                case INTEGER -> "integer";
+                case SMALLINT, TINYINT -> "smallint";
+                case BOOLEAN, BIT -> "boolean";
+                case CHAR, VARCHAR, LONGVARCHAR, NCHAR, NVARCHAR, LONGNVARCHAR -> "varchar";
+                case TIMESTAMP -> "timestamp";
+                case TIMESTAMP_WITH_TIMEZONE -> "timestamptz";
+                case DATE -> "date";
+                case TIME -> "time";
+                case DOUBLE, FLOAT -> "double precision";
+                case REAL -> "real";
+                case NUMERIC, DECIMAL -> "numeric";
+                case BINARY, VARBINARY, LONGVARBINARY -> "bytea";
+                default -> "unknown";
+            };
+        }
+
+        private static String valueTypeName(Object value) {
+            return switch (value) {
+                case Long ignored -> "bigint";
+                case Integer ignored -> "integer";
+                case Short ignored -> "smallint";
+                case Boolean ignored -> "boolean";
+                case String ignored -> "varchar";
+                case LocalDateTime ignored -> "timestamp";
+                case java.sql.Timestamp ignored -> "timestamp";
+                case OffsetDateTime ignored -> "timestamptz";
+                case Instant ignored -> "timestamptz";
+                case LocalDate ignored -> "date";
+                case UUID ignored -> "uuid";
+                case null, default -> "unknown";
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, ResultDecorator decorator) {
+            InvocationHandler handler = (proxy, method, args) -> switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> {
+                    try {
+                        yield decorator.decorate(method, args, method.invoke(target, args));
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }
+            };
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+        }
+
+        @FunctionalInterface
+        private interface ResultDecorator {
+            Object decorate(Method method, Object[] args, Object result) throws SQLException;
+        }
+
+        private static final class Recording {
+
+            private final String sql;
+            private final Map<Integer, String> parameterTypes = new TreeMap<>();
+
+            private Recording(String sql) {
+                this.sql = sql;
+            }
+
+            private CapturedStatement toStatement() {
+                StringBuilder numbered = new StringBuilder();
+                int parameters = 0;
+                char quote = 0;
+                for (char c : sql.toCharArray()) {
+                    if (quote != 0) {
+                        if (c == quote) {
+                            quote = 0;
+                        }
+                    } else if (c == '\'' || c == '"') {
+                        quote = c;
+                    } else if (c == '?') {
+                        numbered.append('$').append(++parameters);
+                        continue;
+                    }
+                    numbered.append(c);
+                }
+                return new CapturedStatement(numbered.toString(), parameters, Map.copyOf(parameterTypes));
+            }
+        }
+    }
+}
@@ -29,6 +29,17 @@ async function request(path, options = {}) {
   return JSON.parse(text);
 }
 
+function toQuery(params = {}) {
+  const query = new URLSearchParams();
+  Object.entries(params).forEach(([key, value]) => {
+    if (value !== undefined && value !== null && value !== '') {
+      query.append(key, value);
+    }
+  });
+  const text = query.toString();
+  return text ? `?${text}` : '';
+}
+
 export function getProjects() {
   return request('/projects');
 }
@@ -81,20 +92,24 @@ export function getProjectById(id) {
   return request(`/projects/${id}`);
 }
 
-export function getTasks() {
-  return request('/tasks');
+export function getTasks(params) {
+  return request(`/tasks${toQuery(params)}`);
 }
 
-export function getTasksByProjectId(projectId) {
-  return request(`/tasks/by-project/${projectId}`);
+export function getTasksByProjectId(projectId, params) {
+  return request(`/tasks/by-project/${projectId}${toQuery(params)}`);
 }
 
-export function getTasksByOrganizerId(organizerId) {
-  return request(`/tasks/by-organizer/${organizerId}`);
+export function getTasksByOrganizerId(organizerId, params) {
+  return request(`/tasks/by-organizer/${organizerId}${toQuery(params)}`);
 }
 
-export function getTasksByParticipantId(userId) {
-  return request(`/tasks/by-participant/${userId}`);
+export function getTasksByParticipantId(userId, params) {
+  return request(`/tasks/by-participant/${userId}${toQuery(params)}`);
+}
+
+export function searchTasks(q, params) {
+  return request(`/search${toQuery({ q, ...params })}`);
 }
 
 export function getProjectParticipants(projectId) {
@@ -170,9 +185,13 @@ export function getReports() {
   return request('/reports');
 }
 
-export async function getReportHtml(reportId) {
+export function getVolunteerOccupancy() {
+  return request('/reports/occupancy');
+}
+
+export async function getReportHtml(reportId, params) {
   const token = localStorage.getItem('token');
-  const response = await fetch(`${API_URL}/reports/${reportId}/render`, {
+  const response = await fetch(`${API_URL}/reports/${reportId}/render${toQuery(params)}`, {
     headers: {
       ...(token ? { Authorization: `Bearer ${token}` } : {}),
     },
@@ -186,9 +205,9 @@ export async function getReportHtml(reportId) {
   return response.text();
 }
 
-export async function downloadReport(reportId, format) {
+export async function downloadReport(reportId, format, params) {
   const token = localStorage.getItem('token');
-  const response = await fetch(`${API_URL}/reports/${reportId}/export?format=${format}`, {
+  const response = await fetch(`${API_URL}/reports/${reportId}/export${toQuery({ ...params, format })}`, {
     headers: {
       ...(token ? { Authorization: `Bearer ${token}` } : {}),
     },
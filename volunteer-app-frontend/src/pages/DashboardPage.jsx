@@ -1,12 +1,24 @@
 import { useEffect, useState } from 'react';
-import { Typography, Box, Alert } from '@mui/material';
+import { Typography, Box, Alert, Button } from '@mui/material';
 import { getTasks, getTasksByOrganizerId, getTasksByParticipantId } from '../api/api';
 import TasksTable from '../components/TasksTable';
 import { useAuth } from '../context/AuthContext';
 
+function fetchTasksPage(auth, cursor) {
+  if (auth.role === 'ORGANIZER') {
+    return getTasksByOrganizerId(auth.userId, { cursor });
+  }
+  if (auth.role === 'VOLUNTEER') {
+    return getTasksByParticipantId(auth.userId, { cursor });
+  }
+  return getTasks({ cursor });
+}
+
 export default function DashboardPage() {
   const { auth } = useAuth();
   const [tasks, setTasks] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [error, setError] = useState('');
 
   useEffect(() => {
@@ -15,28 +27,23 @@ export default function DashboardPage() {
     async function loadTasks() {
       if (!auth?.userId) {
         setTasks([]);
+        setNextCursor(null);
         return;
       }
 
       try {
         setError('');
-        let data;
-
-        if (auth.role === 'ORGANIZER') {
-          data = await getTasksByOrganizerId(auth.userId);
-        } else if (auth.role === 'VOLUNTEER') {
-          data = await getTasksByParticipantId(auth.userId);
-        } else {
-          data = await getTasks();
-        }
+        const data = await fetchTasksPage(auth);
 
         if (!cancelled) {
-          setTasks(data || []);
+          setTasks(data?.items || []);
+          setNextCursor(data?.nextCursor || null);
         }
       } catch (e) {
         if (!cancelled) {
           setError(e.message || 'Ошибка загрузки задач');
           setTasks([]);
+          setNextCursor(null);
         }
       }
     }
@@ -48,6 +55,20 @@ export default function DashboardPage() {
     };
   }, [auth]);
 
+  const handleLoadMore = async () => {
+    try {
+      setLoadingMore(true);
+      setError('');
+      const data = await fetchTasksPage(auth, nextCursor);
+      setTasks(prev => [...prev, ...(data?.items || [])]);
+      setNextCursor(data?.nextCursor || null);
+    } catch (e) {
+      setError(e.message || 'Ошибка загрузки задач');
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   return (
     <Box p={3}>
       <Typography variant="h4" gutterBottom>Задачи</Typography>
@@ -57,6 +78,13 @@ export default function DashboardPage() {
         </Alert>
       )}
       <TasksTable tasks={tasks} />
+      {nextCursor && (
+        <Box sx={{ display: 'flex', justifyContent: 'center', mt: 2 }}>
+          <Button variant="outlined" onClick={handleLoadMore} disabled={loadingMore}>
+            Загрузить ещё
+          </Button>
+        </Box>
+      )}
     </Box>
   );
 }
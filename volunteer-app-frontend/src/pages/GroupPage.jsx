@@ -26,6 +26,7 @@ export default function GroupPage() {
   const [removingMemberIds, setRemovingMemberIds] = useState([]);
   const [memberActionError, setMemberActionError] = useState('');
   const [taskWarningCount, setTaskWarningCount] = useState(0);
+  const [taskWarningMore, setTaskWarningMore] = useState(false);
   const [deleteLoading, setDeleteLoading] = useState(false);
   const [deleteError, setDeleteError] = useState('');
   const [editMode, setEditMode] = useState(false);
@@ -110,22 +111,22 @@ export default function GroupPage() {
   useEffect(() => {
     if (!group?.id) {
       setTaskWarningCount(0);
+      setTaskWarningMore(false);
       return;
     }
 
     let cancelled = false;
 
-    getTasks()
-      .then((tasks) => {
+    getTasks({ assigneeGroupId: group.id, limit: 200 })
+      .then((page) => {
         if (cancelled) return;
-        const assignedCount = Array.isArray(tasks)
-          ? tasks.filter((task) => task.assigneeGroup?.id === group.id).length
-          : 0;
-        setTaskWarningCount(assignedCount);
+        setTaskWarningCount(page?.items?.length ?? 0);
+        setTaskWarningMore(Boolean(page?.nextCursor));
       })
       .catch(() => {
         if (!cancelled) {
           setTaskWarningCount(0);
+          setTaskWarningMore(false);
         }
       });
 
@@ -144,7 +145,7 @@ export default function GroupPage() {
 
     if (taskWarningCount > 0) {
       const confirmed = window.confirm(
-        `Группа назначена исполнителем задач: ${taskWarningCount}. Удалить группу?`
+        `Группа назначена исполнителем задач: ${taskWarningCount}${taskWarningMore ? '+' : ''}. Удалить группу?`
       );
       if (!confirmed) {
         return;
@@ -327,7 +328,7 @@ export default function GroupPage() {
 
                 {taskWarningCount > 0 && (
                   <Alert severity="warning" sx={{ mb: 2, mt: 2 }}>
-                    Группа назначена исполнителем задач: {taskWarningCount}
+                    Группа назначена исполнителем задач: {taskWarningCount}{taskWarningMore ? '+' : ''}
                   </Alert>
                 )}
 
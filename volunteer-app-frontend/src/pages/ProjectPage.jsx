@@ -18,6 +18,8 @@ export default function ProjectPage() {
   const [error, setError] = useState(null);
   const [tasks, setTasks] = useState([]);
   const [tasksLoading, setTasksLoading] = useState(true);
+  const [tasksCursor, setTasksCursor] = useState(null);
+  const [tasksLoadingMore, setTasksLoadingMore] = useState(false);
   const [participants, setParticipants] = useState([]);
   const [participantsLoading, setParticipantsLoading] = useState(true);
   const [participantsError, setParticipantsError] = useState('');
@@ -56,14 +58,16 @@ export default function ProjectPage() {
         setLoading(false);
       });
 
-    getTasksByProjectId(id)
+    getTasksByProjectId(id, { limit: 200 })
       .then(data => {
-        setTasks(data);
+        setTasks(data?.items || []);
+        setTasksCursor(data?.nextCursor || null);
         setTasksLoading(false);
       })
       .catch(err => {
         console.error(err);
         setTasks([]);
+        setTasksCursor(null);
         setTasksLoading(false);
       });
 
@@ -98,6 +102,19 @@ export default function ProjectPage() {
     }
   };
 
+  const handleLoadMoreTasks = async () => {
+    try {
+      setTasksLoadingMore(true);
+      const data = await getTasksByProjectId(id, { limit: 200, cursor: tasksCursor });
+      setTasks(prev => [...prev, ...(data?.items || [])]);
+      setTasksCursor(data?.nextCursor || null);
+    } catch (e) {
+      alert(e.message || 'Ошибка загрузки задач');
+    } finally {
+      setTasksLoadingMore(false);
+    }
+  };
+
   const handleCancel = () => {
     setForm({
       title: project.title || '',
@@ -328,7 +345,16 @@ export default function ProjectPage() {
             <CircularProgress size={24} />
           </Box>
         ) : (
-          <TasksTable tasks={tasks} />
+          <>
+            <TasksTable tasks={tasks} />
+            {tasksCursor && (
+              <Box sx={{ display: 'flex', justifyContent: 'center', mt: 2 }}>
+                <Button variant="outlined" onClick={handleLoadMoreTasks} disabled={tasksLoadingMore}>
+                  Загрузить ещё
+                </Button>
+              </Box>
+            )}
+          </>
         )}
       </Box>
     </Box>
@@ -1,5 +1,5 @@
 import { useEffect, useRef, useState } from 'react';
-import { Alert, Box, Button, Card, CardContent, CircularProgress, Stack, Typography } from '@mui/material';
+import { Alert, Box, Button, Card, CardContent, CircularProgress, Stack, TextField, Typography } from '@mui/material';
 import { downloadReport, getReportHtml, getReports } from '../api/api';
 
 export default function ReportsPage() {
@@ -11,6 +11,7 @@ export default function ReportsPage() {
   const [reportLoading, setReportLoading] = useState(false);
   const [reportError, setReportError] = useState(null);
   const [exportLoading, setExportLoading] = useState(false);
+  const [reportParams, setReportParams] = useState({});
   const reportFrameRef = useRef(null);
 
   const updateReportFrameLayout = () => {
@@ -64,6 +65,12 @@ export default function ReportsPage() {
     };
   }, []);
 
+  const paramsFor = (reportId) => reportParams[reportId] || {};
+
+  const handleParamChange = (reportId, name, value) => {
+    setReportParams(prev => ({ ...prev, [reportId]: { ...prev[reportId], [name]: value } }));
+  };
+
   const handleRenderReport = async (reportId) => {
     setActiveReportId(reportId);
     setReportLoading(true);
@@ -71,7 +78,7 @@ export default function ReportsPage() {
     setReportHtml('');
 
     try {
-      const html = await getReportHtml(reportId);
+      const html = await getReportHtml(reportId, paramsFor(reportId));
       setReportHtml(html || '');
     } catch (err) {
       setReportError(err.message || 'Не удалось сформировать отчет');
@@ -89,7 +96,7 @@ export default function ReportsPage() {
     setReportError(null);
 
     try {
-      const fileBlob = await downloadReport(activeReportId, format);
+      const fileBlob = await downloadReport(activeReportId, format, paramsFor(activeReportId));
       const url = window.URL.createObjectURL(fileBlob);
       const link = document.createElement('a');
       const extension = format === 'pdf' ? 'pdf' : 'xls';
@@ -144,6 +151,18 @@ export default function ReportsPage() {
                       {report.description}
                     </Typography>
                   )}
+                  {report.parameters?.includes('dateFrom') && (
+                    <Stack direction={{ xs: 'column', sm: 'row' }} spacing={2} sx={{ mb: 2 }}>
+                      <TextField label="С" type="date" size="small" InputLabelProps={{ shrink: true }}
+                        value={paramsFor(report.id).dateFrom || ''}
+                        onChange={e => handleParamChange(report.id, 'dateFrom', e.target.value)}
+                      />
+                      <TextField label="По" type="date" size="small" InputLabelProps={{ shrink: true }}
+                        value={paramsFor(report.id).dateTo || ''}
+                        onChange={e => handleParamChange(report.id, 'dateTo', e.target.value)}
+                      />
+                    </Stack>
+                  )}
                   <Button variant="outlined" size="small" onClick={() => handleRenderReport(report.id)} disabled={reportLoading && activeReportId === report.id} >
                     {reportLoading && activeReportId === report.id ? 'Формирование...' : 'Сформировать отчет'}
                   </Button>